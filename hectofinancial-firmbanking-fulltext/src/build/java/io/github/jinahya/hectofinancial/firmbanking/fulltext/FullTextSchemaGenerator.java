@@ -0,0 +1,289 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Compiles {@code *.segments} resources into static schema classes.
+ * <p>
+ * This program is executed, with the source-file mode of the {@code java} launcher, in the {@code generate-sources}
+ * phase of the build; see the {@code pom.xml} of the module.
+ * {@snippet lang = shell:
+ * java src/build/java/io/github/jinahya/hectofinancial/firmbanking/fulltext/FullTextSchemaGenerator.java \
+ *     src/main/resources/io/github/jinahya/hectofinancial/firmbanking/fulltext \
+ *     target/generated-sources/segments
+ *}
+ * For each {@code <category>.head.segments}, a class named {@code FullTextHeadSchema_<category>} is generated; for each
+ * {@code <category><textCode>_<taskCode>.body.segments}, a class named
+ * {@code FullTextBodySchema_<category><textCode>_<taskCode>} is generated. And a class named {@code FullTextSchemas},
+ * which maps each resource name to the segments of the corresponding schema class, is generated.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class FullTextSchemaGenerator {
+
+    private static final String PACKAGE = "io.github.jinahya.hectofinancial.firmbanking.fulltext";
+
+    private static final String SUFFIX_HEAD = ".head.segments";
+
+    private static final String SUFFIX_BODY = ".body.segments";
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private record Segment(int index, int offset, int length, String type, String tag, String name) {
+
+        /**
+         * Returns the type of values of this segment, for the signatures of accessors. This program can't refer the
+         * module's classes, which are compiled after it runs; so each generated class checks, when initialized, these
+         * types against those of its segments with {@code FullTextLayout#checkValueTypes}.
+         *
+         * @return the type of values of this segment.
+         */
+        private String valueType() {
+            if ("X".equals(type)) {
+                return "String";
+            }
+            if (type.startsWith("9V")) {
+                return "java.math.BigDecimal";
+            }
+            return length > 9 ? "Long" : "Integer";
+        }
+
+        private String newInstance() {
+            return "FullTextSegment.newInstance(" + literal(type) + ", " + offset + ", " + length + ", " + literal(tag)
+                   + ")";
+        }
+    }
+
+    private static String literal(final String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    /**
+     * Returns a Java identifier for specified tag; the text before {@code ;}, with each illegal character replaced with
+     * {@code _}.
+     *
+     * @param tag the tag.
+     * @return a Java identifier for {@code tag}.
+     */
+    private static String identifier(final String tag) {
+        final var semicolon = tag.indexOf(';');
+        final var text = (semicolon == -1 ? tag : tag.substring(0, semicolon)).strip();
+        final var builder = new StringBuilder(text.length());
+        for (final var c : text.toCharArray()) {
+            if (Character.isJavaIdentifierPart(c)) {
+                builder.append(c);
+            } else if (!builder.isEmpty() && builder.charAt(builder.length() - 1) != '_') {
+                builder.append('_');
+            }
+        }
+        while (!builder.isEmpty() && builder.charAt(builder.length() - 1) == '_') {
+            builder.setLength(builder.length() - 1);
+        }
+        if (builder.isEmpty() || !Character.isJavaIdentifierStart(builder.charAt(0))) {
+            builder.insert(0, '_');
+        }
+        return builder.toString();
+    }
+
+    private static List<Segment> parse(final Path path) throws IOException {
+        final var segments = new ArrayList<Segment>();
+        try (var s = new Scanner(path, StandardCharsets.UTF_8)) {
+            for (int index = 1, offset = 0; s.hasNext(); index++) {
+                final var type = s.next();
+                final var length = s.nextInt();
+                final var tag = s.nextLine().strip();
+                segments.add(new Segment(index, offset, length, type, tag, identifier(tag)));
+                offset += length;
+            }
+        }
+        // disambiguate duplicate names with their indices
+        final var counts = new HashMap<String, Integer>();
+        segments.forEach(v -> counts.merge(v.name, 1, Integer::sum));
+        segments.replaceAll(v -> counts.get(v.name) == 1 ? v : new Segment(
+                v.index, v.offset, v.length, v.type, v.tag, v.name + '_' + v.index
+        ));
+        return segments;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static void generateSchema(final String resource, final String simpleName, final List<Segment> segments,
+                                       final Path directory)
+            throws IOException {
+        try (var w = new PrintWriter(Files.newBufferedWriter(directory.resolve(simpleName + ".java"),
+                                                             StandardCharsets.UTF_8))) {
+            w.println("package " + PACKAGE + ";");
+            w.println();
+            w.println("/**");
+            w.println(" * The schema of {@code " + resource + "}.");
+            w.println(" * <p>");
+            w.println(" * Generated by {@code FullTextSchemaGenerator}; do not edit.");
+            w.println(" */");
+            w.println("public final class " + simpleName + " {");
+            w.println();
+            w.println("    static final String RESOURCE_NAME = " + literal(resource) + ";");
+            w.println();
+            w.println("    /**");
+            w.println("     * The total length of all segments.");
+            w.println("     */");
+            final var last = segments.get(segments.size() - 1);
+            w.println("    public static final int LENGTH = " + (last.offset + last.length) + ";");
+            for (final var segment : segments) {
+                w.println();
+                w.println("    // " + segment.index + " " + segment.type + "(" + segment.length + ") " + segment.tag);
+                w.println();
+                w.println("    public static final int INDEX_" + segment.name + " = " + segment.index + ";");
+                w.println();
+                w.println("    public static final int OFFSET_" + segment.name + " = " + segment.offset + ";");
+                w.println();
+                w.println("    public static final int LENGTH_" + segment.name + " = " + segment.length + ";");
+            }
+            w.println();
+            w.println("    static final java.util.List<FullTextSegment> SEGMENTS = java.util.List.of(");
+            for (int i = 0; i < segments.size(); i++) {
+                w.println("            " + segments.get(i).newInstance() + (i < segments.size() - 1 ? "," : ""));
+            }
+            w.println("    );");
+            w.println();
+            w.println("    static {");
+            w.println("        FullTextLayout.checkValueTypes(");
+            w.println("                SEGMENTS,");
+            for (int i = 0; i < segments.size(); i++) {
+                w.println("                " + segments.get(i).valueType() + ".class"
+                          + (i < segments.size() - 1 ? "," : ""));
+            }
+            w.println("        );");
+            w.println("    }");
+            w.println();
+            w.println("    private static final class Holder {");
+            w.println();
+            w.println("        private static final FullTextLayout LAYOUT =");
+            w.println("                FullTextSectionRegistry.getLayout(RESOURCE_NAME);");
+            w.println("    }");
+            w.println();
+            w.println("    private static FullTextSection checked(final FullTextSection section) {");
+            w.println("        java.util.Objects.requireNonNull(section, \"section is null\");");
+            w.println("        if (section.getLayout() != Holder.LAYOUT) {");
+            w.println("            throw new IllegalArgumentException(");
+            w.println("                    \"section(\" + section + \") is not of \" + RESOURCE_NAME);");
+            w.println("        }");
+            w.println("        return section;");
+            w.println("    }");
+            for (final var segment : segments) {
+                final var type = segment.valueType();
+                w.println();
+                w.println("    /**");
+                w.println("     * Returns the value of the {@code " + segment.index + " " + segment.name
+                          + "} segment of specified section.");
+                w.println("     *");
+                w.println("     * @param section the section.");
+                w.println("     * @return the value of the segment.");
+                w.println("     * @throws IllegalArgumentException when {@code section} is not of this schema.");
+                w.println("     */");
+                w.println("    public static " + type + " get" + segment.name + "(final FullTextSection section) {");
+                w.println("        return checked(section).getValue(INDEX_" + segment.name + ");");
+                w.println("    }");
+                w.println();
+                w.println("    /**");
+                w.println("     * Replaces the value of the {@code " + segment.index + " " + segment.name
+                          + "} segment of specified section with specified value.");
+                w.println("     *");
+                w.println("     * @param section the section.");
+                w.println("     * @param value   new value for the segment.");
+                w.println("     * @throws IllegalArgumentException when {@code section} is not of this schema.");
+                w.println("     */");
+                w.println("    public static void set" + segment.name + "(final FullTextSection section, final "
+                          + type + " value) {");
+                w.println("        checked(section).setValue(INDEX_" + segment.name + ", value);");
+                w.println("    }");
+            }
+            w.println();
+            w.println("    private " + simpleName + "() {");
+            w.println("        throw new AssertionError(\"instantiation is not allowed\");");
+            w.println("    }");
+            w.println("}");
+        }
+    }
+
+    private static void generateSchemas(final Map<String, String> classes, final Path directory) throws IOException {
+        try (var w = new PrintWriter(Files.newBufferedWriter(directory.resolve("FullTextSchemas.java"),
+                                                             StandardCharsets.UTF_8))) {
+            w.println("package " + PACKAGE + ";");
+            w.println();
+            w.println("/**");
+            w.println(" * Generated by {@code FullTextSchemaGenerator}; do not edit.");
+            w.println(" */");
+            w.println("final class FullTextSchemas {");
+            w.println();
+            w.println("    /**");
+            w.println("     * The names of all compiled resources, in lexicographical order.");
+            w.println("     */");
+            w.println("    static final java.util.List<String> NAMES = java.util.List.of(");
+            final var names = new ArrayList<>(classes.keySet());
+            for (int i = 0; i < names.size(); i++) {
+                w.println("            " + literal(names.get(i)) + (i < names.size() - 1 ? "," : ""));
+            }
+            w.println("    );");
+            w.println();
+            w.println("    /**");
+            w.println("     * Returns the segments compiled from specified resource.");
+            w.println("     *");
+            w.println("     * @param name the name of the resource; e.g., {@code D1000_100.body.segments}.");
+            w.println("     * @return the segments compiled from the resource; {@code null} when none compiled.");
+            w.println("     */");
+            w.println("    static java.util.List<FullTextSegment> getSegments(final String name) {");
+            w.println("        return switch (name) {");
+            for (final var entry : classes.entrySet()) {
+                w.println("            case " + literal(entry.getKey()) + " -> " + entry.getValue() + ".SEGMENTS;");
+            }
+            w.println("            default -> null;");
+            w.println("        };");
+            w.println("    }");
+            w.println();
+            w.println("    private FullTextSchemas() {");
+            w.println("        throw new AssertionError(\"instantiation is not allowed\");");
+            w.println("    }");
+            w.println("}");
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    public static void main(final String... args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: <resource directory> <output directory>");
+        }
+        final var resources = Path.of(args[0]);
+        final var directory = Files.createDirectories(Path.of(args[1]).resolve(PACKAGE.replace('.', '/')));
+        final var classes = new TreeMap<String, String>();
+        try (Stream<Path> paths = Files.list(resources)) {
+            for (final var path : paths.sorted().toList()) {
+                final var resource = path.getFileName().toString();
+                final String simpleName;
+                if (resource.endsWith(SUFFIX_HEAD)) {
+                    simpleName = "FullTextHeadSchema_" + resource.replace(SUFFIX_HEAD, "");
+                } else if (resource.endsWith(SUFFIX_BODY)) {
+                    simpleName = "FullTextBodySchema_" + resource.replace(SUFFIX_BODY, "");
+                } else {
+                    continue;
+                }
+                generateSchema(resource, simpleName, parse(path), directory);
+                classes.put(resource, simpleName);
+            }
+        }
+        generateSchemas(classes, directory);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextSchemaGenerator() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 
 import java.io.IOException;
+import java.lang.ref.Cleaner;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
@@ -10,9 +11,9 @@ import java.time.LocalTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * A class for {@code 전문(全文)} of {@code 실시간펌뱅킹} and {@code 실시간펌뱅킹(외화)}.
@@ -25,6 +26,22 @@ import java.util.stream.Collectors;
  */
 public class FullText {
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Eagerly loads layouts of all sections, and initializes classes involved, so that the first instance of each
+     * layout doesn't pay for those. Invoke this method once at the startup of an application.
+     *
+     * @return the number of preloaded layouts.
+     */
+    public static int preload() {
+        final var count = FullTextSectionRegistry.preload();
+        for (final var category : FullTextCategory.values()) {
+            FullTextSection.newHeadInstance(category).getDataString();
+        }
+        return count;
+    }
+
     // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
 
     /**
@@ -36,21 +53,40 @@ public class FullText {
      * @return a new instance of {@code category} with {@code textCode} and {@code taskCode}.
      */
     public static FullText newInstance(final FullTextCategory category, final String textCode, final String taskCode) {
+        return newInstance(category, textCode, taskCode, FullTextAllocator.heap());
+    }
+
+    /**
+     * Creates a new instance of specified category, {@code 전문구분코드}, and {@code 업무구분코드}, backed by a buffer
+     * allocated by specified allocator.
+     *
+     * @param category  the category.
+     * @param textCode  the {@code 전문구분코드}.
+     * @param taskCode  the {@code 업무구분코드}.
+     * @param allocator the allocator of the buffer backing the result.
+     * @return a new instance of {@code category} with {@code textCode} and {@code taskCode}.
+     * @see FullTextAllocator#direct()
+     * @see FullTextAllocator#slab(int)
+     */
+    public static FullText newInstance(final FullTextCategory category, final String textCode, final String taskCode,
+                                       final FullTextAllocator allocator) {
         Objects.requireNonNull(category, "category is null");
         Objects.requireNonNull(textCode, "textCode is null");
         Objects.requireNonNull(taskCode, "taskCode is null");
-        final var sections = List.of(
-                FullTextSection.newHeadInstance(category),
-                FullTextSection.newBodyInstance(category, textCode, taskCode)
-        );
-        final var instance = new FullText(category, sections);
+        Objects.requireNonNull(allocator, "allocator is null");
+        final var headLayout = FullTextSectionRegistry.getHeadLayout(category);
+        final var bodyLayout = FullTextSectionRegistry.getBodyLayout(category, textCode, taskCode);
+        final var data = allocator.allocate(headLayout.getLength() + bodyLayout.getLength());
+        FullTextSegmentCodec.fill(data, 0, data.capacity());
+        final var instance = newInstance(category, headLayout, bodyLayout, data);
         instance.setTextCode(textCode);
         instance.setTaskCode(taskCode);
         return instance;
     }
 
     /**
-     * Reads an instance from specified channel.
+     * Reads an instance from specified channel. The result is built directly on top of the received, or decrypted,
+     * buffer; no more buffer is allocated, nor any byte is copied.
      *
      * @param category a category of the {@code 전문}.
      * @param channel  the channel.
@@ -61,44 +97,259 @@ public class FullText {
     public static FullText readInstance(final FullTextCategory category, final ReadableByteChannel channel,
                                         final FullTextCipher cipher)
             throws IOException {
+        return readInstance(category, channel, cipher, null);
+    }
+
+    /**
+     * Reads an instance from specified channel into a buffer leased from specified pool. The buffer is returned to the
+     * pool either as soon as decrypted, when {@code cipher} is specified, or when the result is
+     * {@link FullTextBufferPool#release(FullText) released}.
+     *
+     * @param category a category of the {@code 전문}.
+     * @param channel  the channel.
+     * @param cipher   a cipher; may be {@code null}.
+     * @param pool     the pool of buffers; may be {@code null}.
+     * @return a new instance.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static FullText readInstance(final FullTextCategory category, final ReadableByteChannel channel,
+                                        final FullTextCipher cipher, final FullTextBufferPool pool)
+            throws IOException {
         Objects.requireNonNull(category, "category is null");
         Objects.requireNonNull(channel, "channel is null");
-        var data = FullTextUtils.receiveData(channel);
+        return receiveInstance(category, FullTextUtils.receiveData(channel, pool), cipher, pool);
+    }
+
+    /**
+     * Creates a new instance on top of specified buffer of received data.
+     *
+     * @param category a category of the {@code 전문}.
+     * @param received the buffer of received, and possibly encrypted, data; whose position is its capacity.
+     * @param cipher   a cipher; may be {@code null}.
+     * @param pool     the pool from which {@code received} is leased; may be {@code null}. The buffer is returned to
+     *                 the pool when this method fails, as well as when decrypted.
+     * @return a new instance.
+     * @see #readInstance(FullTextCategory, ReadableByteChannel, FullTextCipher, FullTextBufferPool)
+     * @see FullTextFrameDecoder
+     */
+    static FullText receiveInstance(final FullTextCategory category, final ByteBuffer received,
+                                    final FullTextCipher cipher, final FullTextBufferPool pool) {
+        var data = received;
         if (cipher != null) {
-            data = cipher.decrypt(data.flip());
+            try {
+                data = cipher.decrypt(received.flip());
+            } finally {
+                if (pool != null) {
+                    pool.release(received);
+                }
+            }
+        }
+        final FullText instance;
+        try {
+            instance = adoptInstance(category, data.flip());
+        } catch (final RuntimeException re) {
+            if (pool != null && data == received) {
+                pool.release(received);
+            }
+            throw re;
+        }
+        if (pool != null && data == received) {
+            instance.getPoolState().receive(received, pool);
         }
-        final var textCode = category.getHeadTextCode(data);
-        final var taskCode = category.getHeadTaskCode(data);
-        final var instance = newInstance(category, textCode, taskCode);
         instance.setCipher(cipher);
-        instance.setRawData(data.flip());
         return instance;
     }
 
+    /**
+     * Creates a new instance on top of specified buffer of raw(unencrypted) data. The remaining bytes of the buffer
+     * are adopted as they are; neither reset, nor re-stamped, nor copied. Changes to the buffer's content are visible
+     * to the result, and vice versa.
+     *
+     * @param category a category of the {@code 전문}.
+     * @param data     the buffer whose {@link ByteBuffer#remaining() remaining} bytes are the whole data of the
+     *                 {@code 전문}.
+     * @return a new instance on top of {@code data}.
+     * @throws IllegalArgumentException when {@code data.remaining()} is not equal to the length of the {@code 전문} of
+     *                                  its {@code 전문구분코드} and {@code 업무구분코드}.
+     */
+    static FullText adoptInstance(final FullTextCategory category, final ByteBuffer data) {
+        Objects.requireNonNull(category, "category is null");
+        Objects.requireNonNull(data, "data is null");
+        final var slice = data.slice();
+        final var textCode = category.getHeadTextCode(slice);
+        final var taskCode = category.getHeadTaskCode(slice);
+        final var headLayout = FullTextSectionRegistry.getHeadLayout(category);
+        final var bodyLayout = FullTextSectionRegistry.getBodyLayout(category, textCode, taskCode);
+        final var length = headLayout.getLength() + bodyLayout.getLength();
+        if (slice.capacity() != length) {
+            throw new IllegalArgumentException("data.remaining(" + slice.capacity() + ") != length(" + length + ")");
+        }
+        return newInstance(category, headLayout, bodyLayout, slice);
+    }
+
+    /**
+     * Creates a new instance of specified layouts on top of specified buffer, whose content is neither reset nor
+     * copied. The head section and the body section of the result are slices of the buffer.
+     *
+     * @param category   the category.
+     * @param headLayout the layout of the head section.
+     * @param bodyLayout the layout of the body section.
+     * @param data       the buffer whose capacity is equal to the sum of lengths of both layouts.
+     * @return a new instance on top of {@code data}.
+     */
+    static FullText newInstance(final FullTextCategory category, final FullTextLayout headLayout,
+                                final FullTextLayout bodyLayout, final ByteBuffer data) {
+        final var headLength = headLayout.getLength();
+        final var sections = List.of(
+                FullTextSection.newInstance(headLayout, data.slice(0, headLength)),
+                FullTextSection.newInstance(bodyLayout, data.slice(headLength, bodyLayout.getLength()))
+        );
+        return new FullText(category, data, sections);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The state of a text regarding {@link FullTextPool}s and {@link FullTextBufferPool}s; created when the text is
+     * first leased, or received, and kept for the lifetime of the text.
+     */
+    static final class PoolState {
+
+        private PoolState() {
+            super();
+        }
+
+        // ------------------------------------------------------------------------------------------------------- lease
+
+        /**
+         * Marks the text as leased from specified pool.
+         *
+         * @param pool the pool.
+         * @return {@code true} when marked; {@code false} when the text is already leased.
+         */
+        boolean lease(final FullTextPool pool) {
+            assert pool != null;
+            return leasedFrom.compareAndSet(null, pool);
+        }
+
+        /**
+         * Marks the text, which has been leased from specified pool, as released, and cleans the cleanable, if any.
+         *
+         * @param pool the pool.
+         * @return {@code true} when marked; {@code false} when the text is not leased from {@code pool}.
+         */
+        boolean release(final FullTextPool pool) {
+            assert pool != null;
+            if (!leasedFrom.compareAndSet(pool, null)) {
+                return false;
+            }
+            final var cleanable = this.cleanable;
+            this.cleanable = null;
+            if (cleanable != null) {
+                cleanable.clean();
+            }
+            return true;
+        }
+
+        /**
+         * Checks whether the text is currently leased.
+         *
+         * @return {@code true} when leased; {@code false} otherwise.
+         */
+        boolean isLeased() {
+            return leasedFrom.get() != null;
+        }
+
+        void setCleanable(final Cleaner.Cleanable cleanable) {
+            this.cleanable = cleanable;
+        }
+
+        // ---------------------------------------------------------------------------------------------------- received
+
+        /**
+         * Records specified buffer, of which the data of the text is a slice, leased from specified pool.
+         *
+         * @param received the buffer.
+         * @param pool     the pool.
+         */
+        void receive(final ByteBuffer received, final FullTextBufferPool pool) {
+            assert received != null;
+            assert pool != null;
+            this.received = received;
+            receivedFrom = pool;
+        }
+
+        /**
+         * Returns the received buffer leased from a pool, if any.
+         *
+         * @return the received buffer; {@code null} when none.
+         */
+        ByteBuffer getReceived() {
+            return received;
+        }
+
+        /**
+         * Returns the pool from which the received buffer is leased, if any.
+         *
+         * @return the pool of the received buffer; {@code null} when none.
+         */
+        FullTextBufferPool getReceivedFrom() {
+            return receivedFrom;
+        }
+
+        /**
+         * Clears the received buffer, and its pool.
+         */
+        void clearReceived() {
+            received = null;
+            receivedFrom = null;
+        }
+
+        // -------------------------------------------------------------------------------------------------------------
+
+        // the pool from which the text is currently leased; null while not leased
+        private final AtomicReference<FullTextPool> leasedFrom = new AtomicReference<>();
+
+        // the registration of the current lease with the cleaner, when leaks are detected
+        private Cleaner.Cleanable cleanable;
+
+        // the received buffer leased from a pool, if any, of which the data is a slice
+        private ByteBuffer received;
+
+        private FullTextBufferPool receivedFrom;
+    }
+
     // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
 
     /**
-     * Creates a new instance with specified category and sections.
+     * Creates a new instance with specified category, data, and sections.
      *
      * @param category the category.
+     * @param data     the buffer of the whole data, of which each section is a slice.
      * @param sections the sections.
      * @see #category
      * @see #sections
      */
-    private FullText(final FullTextCategory category, final List<? extends FullTextSection> sections) {
+    private FullText(final FullTextCategory category, final ByteBuffer data,
+                     final List<? extends FullTextSection> sections) {
         super();
         this.category = Objects.requireNonNull(category, "category is null");
+        this.data = Objects.requireNonNull(data, "data is null");
         if (Objects.requireNonNull(sections, "sections is null").isEmpty()) {
             throw new IllegalArgumentException("empty sections");
         }
         this.sections = List.copyOf(Objects.requireNonNull(sections, "sections is null"));
         length = this.sections.stream().mapToInt(FullTextSection::getLength).sum();
+        if (data.capacity() != length) {
+            throw new IllegalArgumentException("data.capacity(" + data.capacity() + ") != length(" + length + ")");
+        }
     }
 
     // JUST FOR THE MOCKING
     FullText() {
         super();
         category = null;
+        data = null;
         sections = null;
         length = 0;
     }
@@ -353,19 +604,37 @@ public class FullText {
      * @see #getHeadDateTime()
      */
     public void setHeadDateTime(final LocalDateTime headDateTime) {
-        setHeadDate(Optional.ofNullable(headDateTime).map(LocalDate::from).orElse(null));
-        setHeadTime(Optional.ofNullable(headDateTime).map(LocalTime::from).orElse(null));
+        if (headDateTime == null) {
+            setHeadDate(null);
+            setHeadTime(null);
+            return;
+        }
+        setHeadDate(headDateTime.toLocalDate());
+        setHeadTime(headDateTime.toLocalTime());
     }
 
     /**
-     * Sets {@code 전송일시} to the {@link FullTextConstants#SECTION_INDEX_HEAD head} section of this text, with
-     * {@link LocalDateTime#now() now}.
+     * Sets {@code 전송일시} to the {@link FullTextConstants#SECTION_INDEX_HEAD head} section of this text, with the
+     * current second of the {@link FullTextClock#systemDefaultZone() system default zone}.
      *
      * @see FullTextConstants#SECTION_INDEX_HEAD
-     * @see #setHeadDateTime(LocalDateTime)
+     * @see #setHeadDateTimeAsNow(FullTextClock)
      */
     public void setHeadDateTimeAsNow() {
-        setHeadDateTime(LocalDateTime.now());
+        setHeadDateTimeAsNow(FullTextClock.systemDefaultZone());
+    }
+
+    /**
+     * Sets {@code 전송일시} to the {@link FullTextConstants#SECTION_INDEX_HEAD head} section of this text, with the
+     * current second of specified clock.
+     *
+     * @param clock the clock.
+     * @see FullTextConstants#SECTION_INDEX_HEAD
+     * @see #setHeadDateTime(LocalDateTime)
+     */
+    public void setHeadDateTimeAsNow(final FullTextClock clock) {
+        Objects.requireNonNull(clock, "clock is null");
+        acceptHeadSection(s -> category.setHeadDateTimeAsNow(s, clock));
     }
 
     /**
@@ -392,21 +661,18 @@ public class FullText {
      * @return a string representation of this text's data.
      */
     public String getDataString() {
-        return sections.stream()
-                .map(FullTextSection::getDataString)
-                .collect(Collectors.joining());
+        return FullTextSegmentCodecX.CHARSET.decode(getRawData()).toString();
     }
 
     /**
-     * Returns a byte buffer of this text's raw(unencrypted) data.
+     * Returns a view of this text's raw(unencrypted) data, which shares the content with all sections of this text.
      *
-     * @return a byte buffer of this text's raw(unencrypted) data.
+     * @return a view of this text's raw(unencrypted) data, whose {@link ByteBuffer#remaining() remaining} is equal to
+     * the {@link #getLength() length} of this text.
      * @see #setRawData(ByteBuffer)
      */
-    private ByteBuffer getRawData() {
-        final var dst = ByteBuffer.allocate(length);
-        sections.forEach(s -> s.getData(dst));
-        return dst;
+    ByteBuffer getRawData() {
+        return data.duplicate().clear();
     }
 
     /**
@@ -420,10 +686,9 @@ public class FullText {
         if (Objects.requireNonNull(src, "src is null").remaining() != length) {
             throw new IllegalArgumentException("src.remaining(" + src.remaining() + ") != length(" + length + ")");
         }
-        for (final var section : sections) {
-            src.limit(src.position() + section.getLength());
-            section.setData(src);
-        }
+        final var position = src.position();
+        data.put(0, src, position, length);
+        src.position(position + length);
     }
 
     /**
@@ -434,11 +699,10 @@ public class FullText {
      * @see #setData(ByteBuffer)
      */
     public ByteBuffer getData() {
-        final var data = getRawData();
         if (cipher != null) {
-            return cipher.encrypt(data.flip());
+            return cipher.encrypt(getRawData());
         }
-        return data;
+        return ByteBuffer.allocate(length).put(getRawData());
     }
 
     /**
@@ -470,8 +734,43 @@ public class FullText {
         if (!Objects.requireNonNull(channel, "channel is null").isOpen()) {
             throw new IllegalArgumentException("channel is not open");
         }
-        final var data = getData();
-        FullTextUtils.sendData(channel, data.flip());
+        FullTextUtils.sendData(channel, getWireData());
+    }
+
+    /**
+     * Returns a buffer of this text's data to be sent; encrypted when {@link #setCipher(FullTextCipher) cipher} is
+     * set, or a view of the raw data otherwise.
+     *
+     * @return a buffer of this text's data to be sent.
+     */
+    ByteBuffer getWireData() {
+        if (cipher != null) {
+            return cipher.encrypt(getRawData()).flip();
+        }
+        return getRawData();
+    }
+
+    /**
+     * Resets this text for reuse; fills the whole data with spaces, stamps specified {@code 전문구분코드} and
+     * {@code 업무구분코드}, and clears the cipher.
+     *
+     * @param textCode the {@code 전문구분코드} to stamp.
+     * @param taskCode the {@code 업무구분코드} to stamp.
+     * @see FullTextPool#lease(FullTextCategory, String, String)
+     */
+    void reset(final String textCode, final String taskCode) {
+        FullTextSegmentCodec.fill(data, 0, length);
+        setTextCode(textCode);
+        setTaskCode(taskCode);
+        cipher = null;
+    }
+
+    FullTextLayout getHeadLayout() {
+        return sections.get(FullTextConstants.SECTION_INDEX_HEAD - 1).getLayout();
+    }
+
+    FullTextLayout getBodyLayout() {
+        return sections.get(FullTextConstants.SECTION_INDEX_BODY - 1).getLayout();
     }
 
     // ---------------------------------------------------------------------------------------------------------- length
@@ -493,15 +792,80 @@ public class FullText {
      * @param cipher cipher for this text; {@code null} to clear.
      */
     public void setCipher(final FullTextCipher cipher) {
+        if (isReadOnly()) {
+            throw new UnsupportedOperationException("read-only");
+        }
         this.cipher = cipher;
     }
 
+    // -------------------------------------------------------------------------------------------------------- readOnly
+
+    /**
+     * Returns a read-only view of this text, which shares the data, and the cipher, with this text. Any attempt to
+     * modify the view results in an {@link UnsupportedOperationException}; e.g., a
+     * {@link java.nio.ReadOnlyBufferException}.
+     * <p>
+     * Every read operation of the view uses only absolute operations of buffers, so that the view, as long as the data
+     * is not modified via this text, can be read by multiple threads concurrently without any copy.
+     * {@snippet lang = java:
+     * final var received = FullText.readInstance(category, channel, cipher).asReadOnly();
+     * consumers.forEach(c -> executor.execute(() -> c.accept(received)));
+     *}
+     * Note that writing the view with its cipher, if any, is not thread-safe unless the cipher is.
+     * <p>
+     * The view shares the backing buffer with this text; it is not a snapshot. Once this text is released to a
+     * {@link FullTextPool} or to a {@link FullTextBufferPool}, the buffer is handed to the next tenant, and the view
+     * sees the next tenant's bytes. So a view should not outlive the release of the text from which it is taken.
+     *
+     * @return a read-only view of this text; this text itself when already read-only.
+     * @see #isReadOnly()
+     */
+    public FullText asReadOnly() {
+        if (isReadOnly()) {
+            return this;
+        }
+        final var view = newInstance(category, getHeadLayout(), getBodyLayout(), data.asReadOnlyBuffer());
+        view.cipher = cipher;
+        return view;
+    }
+
+    /**
+     * Checks whether this text is read-only.
+     *
+     * @return {@code true} when this text is read-only; {@code false} otherwise.
+     * @see #asReadOnly()
+     */
+    public boolean isReadOnly() {
+        return data.isReadOnly();
+    }
+
+    // ------------------------------------------------------------------------------------------------------- poolState
+
+    /**
+     * Returns the state of this text regarding pools; created when absent.
+     *
+     * @return the state of this text regarding pools.
+     */
+    PoolState getPoolState() {
+        var state = poolState;
+        if (state == null) {
+            poolState = state = new PoolState();
+        }
+        return state;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     private final FullTextCategory category;
 
+    // the whole data; each section is a slice of it
+    private final ByteBuffer data;
+
     private final List<? extends FullTextSection> sections;
 
     private final int length;
 
     private transient FullTextCipher cipher;
+
+    // the state regarding pools; null until first leased, or received
+    private PoolState poolState;
 }
@@ -0,0 +1,115 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An allocator of buffers backing {@link FullText}s.
+ * <p>
+ * A text backed by a {@link ByteBuffer#isDirect() direct} buffer is written to a channel, such as a
+ * {@link java.nio.channels.SocketChannel}, straight from its own memory; no temporary direct buffer is involved. Its
+ * bytes are also kept off the heap.
+ * {@snippet lang = java:
+ * static final FullTextAllocator ALLOCATOR = FullTextAllocator.slab(1 << 20);
+ *
+ * final var text = FullText.newInstance(FullTextCategory.D, "2000", "100", ALLOCATOR);
+ *}
+ * Allocating a direct buffer is relatively expensive; consider either a {@link #slab(int) slab} allocator, or pooling
+ * texts with {@link FullTextPool#newInstance(int, boolean, FullTextAllocator)}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullText#newInstance(FullTextCategory, String, String, FullTextAllocator)
+ */
+public abstract class FullTextAllocator {
+
+    private static final FullTextAllocator HEAP = new FullTextAllocator() {
+        @Override
+        ByteBuffer allocate(final int capacity) {
+            return ByteBuffer.allocate(capacity);
+        }
+    };
+
+    private static final FullTextAllocator DIRECT = new FullTextAllocator() {
+        @Override
+        ByteBuffer allocate(final int capacity) {
+            return ByteBuffer.allocateDirect(capacity);
+        }
+    };
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * An allocator which slices buffers from a shared, direct slab, and allocates a new slab when the current one is
+     * exhausted. A slab is released when all buffers sliced from it become unreachable.
+     */
+    private static final class Slab
+            extends FullTextAllocator {
+
+        private Slab(final int slabCapacity) {
+            super();
+            this.slabCapacity = slabCapacity;
+        }
+
+        @Override
+        synchronized ByteBuffer allocate(final int capacity) {
+            if (slab == null || slab.remaining() < capacity) {
+                slab = ByteBuffer.allocateDirect(Math.max(slabCapacity, capacity));
+            }
+            final var buffer = slab.slice(slab.position(), capacity);
+            slab.position(slab.position() + capacity);
+            return buffer;
+        }
+
+        private final int slabCapacity;
+
+        private ByteBuffer slab;
+    }
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Returns an allocator of heap buffers; the default.
+     *
+     * @return an allocator of heap buffers.
+     */
+    public static FullTextAllocator heap() {
+        return HEAP;
+    }
+
+    /**
+     * Returns an allocator which allocates each buffer with {@link ByteBuffer#allocateDirect(int)}.
+     *
+     * @return an allocator of direct buffers.
+     */
+    public static FullTextAllocator direct() {
+        return DIRECT;
+    }
+
+    /**
+     * Returns a new allocator which slices direct buffers from shared slabs of specified capacity. The result is
+     * thread-safe.
+     *
+     * @param slabCapacity the capacity of each slab.
+     * @return a new allocator of direct buffers sliced from slabs of {@code slabCapacity}.
+     */
+    public static FullTextAllocator slab(final int slabCapacity) {
+        if (slabCapacity <= 0) {
+            throw new IllegalArgumentException("slabCapacity(" + slabCapacity + ") is not positive");
+        }
+        return new Slab(slabCapacity);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    FullTextAllocator() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Allocates a new buffer of specified capacity.
+     *
+     * @param capacity the capacity.
+     * @return a new buffer whose {@link ByteBuffer#capacity() capacity} is {@code capacity}.
+     */
+    abstract ByteBuffer allocate(int capacity);
+}
@@ -0,0 +1,139 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of buffers for receiving {@link FullText}s, classed by length.
+ * <p>
+ * Every type of {@code 전문} has a fixed length; e.g., {@code 300} for most of {@code D} texts. So buffers are classed
+ * by their exact lengths, and a long-lived inbound connection, reading texts into buffers leased from this pool, and
+ * releasing those texts once consumed, produces no buffer garbage per text.
+ * {@snippet lang = java:
+ * static final FullTextBufferPool POOL = FullTextBufferPool.newInstance(16);
+ *
+ * final var text = FullText.readInstance(category, channel, null, POOL);
+ * try {
+ *     // ...
+ * } finally {
+ *     POOL.release(text);
+ * }
+ *}
+ * An instance of this class is thread-safe.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullText#readInstance(FullTextCategory, java.nio.channels.ReadableByteChannel, FullTextCipher,
+ * FullTextBufferPool)
+ */
+public final class FullTextBufferPool {
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance of heap buffers.
+     *
+     * @param capacity the maximum number of idle buffers of each length.
+     * @return a new instance.
+     */
+    public static FullTextBufferPool newInstance(final int capacity) {
+        return newInstance(capacity, FullTextAllocator.heap());
+    }
+
+    /**
+     * Creates a new instance of buffers allocated by specified allocator.
+     *
+     * @param capacity  the maximum number of idle buffers of each length.
+     * @param allocator the allocator of new buffers.
+     * @return a new instance.
+     */
+    public static FullTextBufferPool newInstance(final int capacity, final FullTextAllocator allocator) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") is not positive");
+        }
+        Objects.requireNonNull(allocator, "allocator is null");
+        return new FullTextBufferPool(capacity, allocator);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextBufferPool(final int capacity, final FullTextAllocator allocator) {
+        super();
+        this.capacity = capacity;
+        this.allocator = allocator;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "capacity=" + capacity +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private BlockingQueue<ByteBuffer> idles(final int length) {
+        final var idles = pools.get(length);
+        if (idles != null) {
+            return idles;
+        }
+        return pools.computeIfAbsent(length, l -> new ArrayBlockingQueue<>(capacity));
+    }
+
+    /**
+     * Leases a cleared buffer of specified length.
+     *
+     * @param length the length.
+     * @return a cleared buffer whose {@link ByteBuffer#capacity() capacity} is {@code length}.
+     */
+    ByteBuffer lease(final int length) {
+        assert length >= 0;
+        final var buffer = idles(length).poll();
+        if (buffer == null) {
+            return allocator.allocate(length);
+        }
+        return buffer.clear();
+    }
+
+    /**
+     * Returns specified buffer, which has been leased from this pool, back to this pool.
+     *
+     * @param buffer the buffer.
+     */
+    void release(final ByteBuffer buffer) {
+        assert buffer != null;
+        idles(buffer.capacity()).offer(buffer);
+    }
+
+    /**
+     * Returns the buffer of specified text, which has been read with this pool, back to this pool. The text should not
+     * be used after being released. This method does nothing when the text doesn't hold a buffer of this pool; e.g.,
+     * a text read with a cipher, whose received buffer is returned as soon as decrypted.
+     *
+     * @param text the text.
+     * @throws IllegalArgumentException when {@code text} holds a buffer of another pool.
+     */
+    public void release(final FullText text) {
+        Objects.requireNonNull(text, "text is null");
+        final var state = text.getPoolState();
+        final var buffer = state.getReceived();
+        if (buffer == null) {
+            return;
+        }
+        if (state.getReceivedFrom() != this) {
+            throw new IllegalArgumentException("text(" + text + ") is not read with " + this);
+        }
+        state.clearReceived();
+        release(buffer);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final int capacity;
+
+    private final FullTextAllocator allocator;
+
+    // length -> idle buffers
+    private final ConcurrentMap<Integer, BlockingQueue<ByteBuffer>> pools = new ConcurrentHashMap<>();
+}
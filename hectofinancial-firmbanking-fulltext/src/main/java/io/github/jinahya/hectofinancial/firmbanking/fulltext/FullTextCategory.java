@@ -22,6 +22,10 @@ public enum FullTextCategory {
         }
         @Override void setHeadTime(final FullTextSection headSection, final LocalTime headTime) {
             headSection.setTime(FullTextConstants.SEGMENT_INDEX_HEAD_TIME_D, headTime);
+        }
+        @Override void setHeadDateTimeAsNow(final FullTextSection headSection, final FullTextClock clock) {
+            headSection.setDateTimeAsNow(FullTextConstants.SEGMENT_INDEX_HEAD_DATE_D,
+                                         FullTextConstants.SEGMENT_INDEX_HEAD_TIME_D, clock);
         } // @formatter:on
     },
 
@@ -41,6 +45,10 @@ public enum FullTextCategory {
         }
         @Override void setHeadTime(final FullTextSection headSection, final LocalTime headTime) {
             headSection.setTime(FullTextConstants.SEGMENT_INDEX_HEAD_TIME_F, headTime);
+        }
+        @Override void setHeadDateTimeAsNow(final FullTextSection headSection, final FullTextClock clock) {
+            headSection.setDateTimeAsNow(FullTextConstants.SEGMENT_INDEX_HEAD_DATE_F,
+                                         FullTextConstants.SEGMENT_INDEX_HEAD_TIME_F, clock);
         } // @formatter:on
     };
 
@@ -68,6 +76,16 @@ public enum FullTextCategory {
 
     abstract void setHeadTime(final FullTextSection headSection, final LocalTime headTime);
 
+    // ---------------------------------------------------------------------------------------------------- headDateTime
+
+    /**
+     * Sets {@code 전송일자} and {@code 전송시간} of specified head section with the current second of specified clock.
+     *
+     * @param headSection the head section.
+     * @param clock       the clock.
+     */
+    abstract void setHeadDateTimeAsNow(final FullTextSection headSection, final FullTextClock clock);
+
     // --------------------------------------------------------------------------------------------- headTextCodeSegment
     String getHeadTextCode(final ByteBuffer data) {
         return headTextCodeSegment.getValue(data);
@@ -3,11 +3,17 @@ package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 import javax.crypto.Cipher;
 import java.nio.ByteBuffer;
 import java.security.Key;
+import java.security.Provider;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Objects;
 
 /**
  * Parameters for encrypting/decrypting instances of {@link FullText}.
+ * <p>
+ * An instance of this class is thread-safe, and is meant to be shared. Each thread uses its own {@link Cipher}s, one
+ * for each mode, which are initialized only once; a cipher, on completing {@link Cipher#doFinal(ByteBuffer, ByteBuffer)
+ * doFinal}, is reset to the state just after initialized, so that no following operation pays for the
+ * initialization, e.g., the key schedule, again.
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see FullText#setCipher(FullTextCipher)
@@ -17,40 +23,91 @@ public class FullTextCipher {
     // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
 
     /**
-     * Creates new instance with specified arguments.
+     * Creates new instance with specified arguments. The {@code cipher} is used only for its
+     * {@link Cipher#getAlgorithm() algorithm} and {@link Cipher#getProvider() provider}; it is neither initialized nor
+     * used by the result.
      *
      * @param cipher a cipher.
      * @param key    a key.
      * @param params a params; may be {@code null}.
      * @return a new instance.
+     * @see #newInstance(String, Key, AlgorithmParameterSpec)
      */
     public static FullTextCipher newInstance(final Cipher cipher, final Key key, final AlgorithmParameterSpec params) {
-        return new FullTextCipher(cipher, key, params);
+        Objects.requireNonNull(cipher, "cipher is null");
+        return new FullTextCipher(cipher.getAlgorithm(), cipher.getProvider(), key, params);
+    }
+
+    /**
+     * Creates new instance with specified arguments.
+     *
+     * @param transformation a transformation of ciphers; e.g., {@code AES/CBC/PKCS5Padding}.
+     * @param key            a key.
+     * @param params         a params; may be {@code null}.
+     * @return a new instance.
+     * @see Cipher#getInstance(String)
+     */
+    public static FullTextCipher newInstance(final String transformation, final Key key,
+                                             final AlgorithmParameterSpec params) {
+        Objects.requireNonNull(transformation, "transformation is null");
+        return new FullTextCipher(transformation, null, key, params);
     }
 
     // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
-    private FullTextCipher(final Cipher cipher, final Key key, final AlgorithmParameterSpec params) {
+    private FullTextCipher(final String transformation, final Provider provider, final Key key,
+                           final AlgorithmParameterSpec params) {
         super();
-        this.cipher = Objects.requireNonNull(cipher, "cipher is null");
+        this.transformation = transformation;
+        this.provider = provider;
         this.key = Objects.requireNonNull(key, "key is null");
         this.params = params;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
-    private void init(final int opmode) {
-        if (params != null) {
-            try {
+
+    /**
+     * Creates a new cipher initialized for specified mode.
+     *
+     * @param opmode the mode.
+     * @return a new cipher initialized for {@code opmode}.
+     */
+    private Cipher newCipher(final int opmode) {
+        try {
+            final var cipher = provider == null
+                               ? Cipher.getInstance(transformation)
+                               : Cipher.getInstance(transformation, provider);
+            if (params != null) {
                 cipher.init(opmode, key, params);
-                return;
-            } catch (final Exception e) {
-                throw new RuntimeException("failed to initialize the cipher", e);
+            } else {
+                cipher.init(opmode, key);
             }
+            return cipher;
+        } catch (final Exception e) {
+            throw new RuntimeException("failed to initialize the cipher", e);
         }
+    }
+
+    /**
+     * Runs the final operation of specified thread's cipher on specified buffer's remaining bytes. The thread's cipher
+     * is discarded when the operation fails, so that the next operation starts with a new cipher.
+     *
+     * @param ciphers the thread's ciphers of a mode.
+     * @param input   the buffer.
+     * @param message a message for a failure.
+     * @return a byte buffer of output bytes.
+     */
+    private static ByteBuffer doFinal(final ThreadLocal<Cipher> ciphers, final ByteBuffer input,
+                                      final String message) {
+        final var cipher = ciphers.get();
+        final var output = ByteBuffer.allocate(cipher.getOutputSize(input.remaining()));
         try {
-            cipher.init(opmode, key);
+            final var bytes = cipher.doFinal(input, output);
+            assert bytes <= output.capacity();
         } catch (final Exception e) {
-            throw new RuntimeException("failed to initialize the cipher", e);
+            ciphers.remove();
+            throw new RuntimeException(message, e);
         }
+        return output;
     }
 
     /**
@@ -63,15 +120,7 @@ public class FullTextCipher {
      */
     ByteBuffer encrypt(final ByteBuffer input) {
         assert input != null;
-        init(Cipher.ENCRYPT_MODE);
-        final var output = ByteBuffer.allocate(cipher.getOutputSize(input.remaining()));
-        try {
-            final var bytes = cipher.doFinal(input, output);
-            assert bytes <= output.capacity();
-        } catch (final Exception e) {
-            throw new RuntimeException("failed to encrypt", e);
-        }
-        return output;
+        return doFinal(encryptors, input, "failed to encrypt");
     }
 
     /**
@@ -84,21 +133,22 @@ public class FullTextCipher {
      */
     ByteBuffer decrypt(final ByteBuffer input) {
         assert input != null;
-        init(Cipher.DECRYPT_MODE);
-        final var output = ByteBuffer.allocate(cipher.getOutputSize(input.remaining()));
-        try {
-            final var bytes = cipher.doFinal(input, output);
-            assert bytes <= output.capacity();
-        } catch (final Exception e) {
-            throw new RuntimeException("failed to decrypt", e);
-        }
-        return output;
+        return doFinal(decryptors, input, "failed to decrypt");
     }
 
     // -----------------------------------------------------------------------------------------------------------------
-    private final Cipher cipher;
+    private final String transformation;
+
+    // null for the most preferred one
+    private final Provider provider;
 
     private final Key key;
 
     private final AlgorithmParameterSpec params;
+
+    // per-thread ciphers initialized for the ENCRYPT_MODE
+    private final ThreadLocal<Cipher> encryptors = ThreadLocal.withInitial(() -> newCipher(Cipher.ENCRYPT_MODE));
+
+    // per-thread ciphers initialized for the DECRYPT_MODE
+    private final ThreadLocal<Cipher> decryptors = ThreadLocal.withInitial(() -> newCipher(Cipher.DECRYPT_MODE));
 }
@@ -0,0 +1,121 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A coarse clock for stamping {@code 전송일자} and {@code 전송시간} of {@link FullText}s.
+ * <p>
+ * An instance caches the encoded {@code uuuuMMddHHmmss} bytes of the current second, so that all texts stamped within
+ * the same second just copy the cached bytes.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullText#setHeadDateTimeAsNow(FullTextClock)
+ */
+public final class FullTextClock {
+
+    private static final FullTextClock SYSTEM_DEFAULT_ZONE = new FullTextClock(Clock.systemDefaultZone());
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Returns the shared instance backed by the {@link Clock#systemDefaultZone() system clock of the default zone}.
+     *
+     * @return the shared instance backed by the system clock of the default zone.
+     */
+    public static FullTextClock systemDefaultZone() {
+        return SYSTEM_DEFAULT_ZONE;
+    }
+
+    /**
+     * Returns a new instance backed by specified clock.
+     *
+     * @param clock the clock; e.g., a {@link Clock#fixed(Instant, java.time.ZoneId) fixed} one for tests.
+     * @return a new instance backed by {@code clock}.
+     */
+    public static FullTextClock of(final Clock clock) {
+        return new FullTextClock(clock);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final class Stamp {
+
+        private Stamp(final long epochSecond, final byte[] bytes) {
+            super();
+            this.epochSecond = epochSecond;
+            this.bytes = bytes;
+        }
+
+        private final long epochSecond;
+
+        // uuuuMMddHHmmss
+        private final byte[] bytes;
+    }
+
+    private static final int LENGTH_DATE = FullTextSegmentCodecConstants.LENGTH_DATE;
+
+    private static final int LENGTH_TIME = FullTextSegmentCodecConstants.LENGTH_TIME;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextClock(final Clock clock) {
+        super();
+        this.clock = Objects.requireNonNull(clock, "clock is null");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "clock=" + clock +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private Stamp stamp() {
+        final var epochSecond = Math.floorDiv(clock.millis(), MILLIS_PER_SECOND);
+        var s = stamp;
+        if (s != null && s.epochSecond == epochSecond) {
+            return s;
+        }
+        final var offset = clock.getZone().getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+        final var localSecond = epochSecond + offset.getTotalSeconds();
+        final var bytes = new byte[LENGTH_DATE + LENGTH_TIME];
+        final var buffer = ByteBuffer.wrap(bytes);
+        FullTextSegmentCodec9.encodeInt(
+                buffer, 0, LENGTH_DATE,
+                FullTextSegmentCodec9.epochDayToPackedDate(Math.floorDiv(localSecond, SECONDS_PER_DAY))
+        );
+        FullTextSegmentCodec9.encodeInt(
+                buffer, LENGTH_DATE, LENGTH_TIME,
+                FullTextSegmentCodec9.secondOfDayToPackedTime(Math.floorMod(localSecond, SECONDS_PER_DAY))
+        );
+        s = new Stamp(epochSecond, bytes);
+        stamp = s;
+        return s;
+    }
+
+    /**
+     * Copies the encoded date and time of the current second to specified regions of specified buffer.
+     *
+     * @param data       the buffer.
+     * @param dateOffset the offset of the {@code uuuuMMdd} region.
+     * @param timeOffset the offset of the {@code HHmmss} region.
+     */
+    void stamp(final ByteBuffer data, final int dateOffset, final int timeOffset) {
+        assert data != null;
+        final var bytes = stamp().bytes;
+        data.put(dateOffset, bytes, 0, LENGTH_DATE);
+        data.put(timeOffset, bytes, LENGTH_DATE, LENGTH_TIME);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final Clock clock;
+
+    private volatile Stamp stamp;
+}
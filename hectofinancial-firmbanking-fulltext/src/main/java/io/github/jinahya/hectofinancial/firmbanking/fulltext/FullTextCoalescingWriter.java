@@ -0,0 +1,245 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A writer which coalesces frames of {@link FullText}s, written by multiple threads, into batches for a single
+ * channel.
+ * <p>
+ * Each written text is encoded, and encrypted when its cipher is set, into a frame, and queued. Queued frames are
+ * flushed with gathering writes either when their total size reaches {@code maxBytes}, by the thread which queued the
+ * last frame, or when {@code maxDelay} has elapsed since the first frame of a batch was queued, by the scheduler.
+ * {@snippet lang = java:
+ * final var writer = FullTextCoalescingWriter.newInstance(channel, 16384, Duration.ofMillis(2), scheduler);
+ * // from any thread
+ * writer.write(text);
+ * // ...
+ * writer.close(); // flushes; doesn't close the channel
+ *}
+ * An instance of this class is thread-safe. Once a flush fails, with any exception or error, including a scheduled
+ * one, every following operation fails with the same cause.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullText#write(WritableByteChannel)
+ */
+public final class FullTextCoalescingWriter
+        implements Closeable {
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance.
+     *
+     * @param channel   the channel to write; preferably a {@link GatheringByteChannel}.
+     * @param maxBytes  the total size of queued frames which triggers a flush.
+     * @param maxDelay  the maximum delay of a queued frame before flushed.
+     * @param scheduler a scheduler for delayed flushes.
+     * @return a new instance.
+     */
+    public static FullTextCoalescingWriter newInstance(final WritableByteChannel channel, final int maxBytes,
+                                                       final Duration maxDelay,
+                                                       final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(channel, "channel is null");
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes(" + maxBytes + ") is not positive");
+        }
+        if (!Objects.requireNonNull(maxDelay, "maxDelay is null").isPositive()) {
+            throw new IllegalArgumentException("maxDelay(" + maxDelay + ") is not positive");
+        }
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        return new FullTextCoalescingWriter(channel, maxBytes, maxDelay.toNanos(), scheduler);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextCoalescingWriter(final WritableByteChannel channel, final int maxBytes, final long maxDelayNanos,
+                                     final ScheduledExecutorService scheduler) {
+        super();
+        this.channel = channel;
+        this.maxBytes = maxBytes;
+        this.maxDelayNanos = maxDelayNanos;
+        this.scheduler = scheduler;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "channel=" + channel +
+                ",maxBytes=" + maxBytes +
+                ",maxDelayNanos=" + maxDelayNanos +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Flushes all queued frames, and prevents any following write. The channel is not closed.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        flush();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    /**
+     * Throws an {@link IOException} caused by the failure of a previous flush, if any.
+     *
+     * @throws IOException when a previous flush has failed.
+     */
+    private void checkFailure() throws IOException {
+        assert lock.isHeldByCurrentThread();
+        if (failure != null) {
+            throw new IOException("failed to flush", failure);
+        }
+    }
+
+    /**
+     * Queues a frame of specified text. The frame is encoded, and encrypted when the cipher of the text is set, so the
+     * text may be modified, or reused, as soon as this method returns.
+     *
+     * @param text the text to write.
+     * @throws IOException if an I/O error occurs while flushing, or has occurred while flushing previously.
+     */
+    public void write(final FullText text) throws IOException {
+        Objects.requireNonNull(text, "text is null");
+        final var frame = FullTextUtils.encodeFrame(text.getWireData());
+        final boolean full;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("already closed");
+            }
+            checkFailure();
+            frames.add(frame);
+            bytes += frame.remaining();
+            full = bytes >= maxBytes;
+            if (!full && !scheduled) {
+                scheduler.schedule(this::flushScheduled, maxDelayNanos, TimeUnit.NANOSECONDS);
+                scheduled = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full) {
+            flush();
+        }
+    }
+
+    private void flushScheduled() {
+        lock.lock();
+        try {
+            scheduled = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flush();
+        } catch (final Throwable t) {
+            // recorded; reported by the following operation
+        }
+    }
+
+    /**
+     * Writes all queued frames to the channel.
+     *
+     * @throws IOException if an I/O error occurs, or any previous flush has failed.
+     */
+    public void flush() throws IOException {
+        // held while writing, so that batches are written in the order taken
+        writeLock.lock();
+        try {
+            final ByteBuffer[] srcs;
+            lock.lock();
+            try {
+                checkFailure();
+                if (frames.isEmpty()) {
+                    return;
+                }
+                srcs = frames.toArray(ByteBuffer[]::new);
+                frames.clear();
+                bytes = 0;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                write(srcs);
+            } catch (final Throwable t) {
+                lock.lock();
+                try {
+                    failure = t;
+                } finally {
+                    lock.unlock();
+                }
+                throw t;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(final ByteBuffer[] srcs) throws IOException {
+        if (channel instanceof GatheringByteChannel gathering) {
+            for (int offset = 0; offset < srcs.length; ) {
+                final var written = gathering.write(srcs, offset, srcs.length - offset);
+                assert written >= 0;
+                while (offset < srcs.length && !srcs[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+            return;
+        }
+        for (final var src : srcs) {
+            while (src.hasRemaining()) {
+                final var written = channel.write(src);
+                assert written >= 0;
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final WritableByteChannel channel;
+
+    private final int maxBytes;
+
+    private final long maxDelayNanos;
+
+    private final ScheduledExecutorService scheduler;
+
+    // guards frames, bytes, scheduled, closed, and failure
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // guards the channel
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final List<ByteBuffer> frames = new ArrayList<>();
+
+    private int bytes;
+
+    private boolean scheduled;
+
+    private boolean closed;
+
+    private Throwable failure;
+}
@@ -0,0 +1,143 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable, pre-encoded segment value, which is meant to be prepared once and be compared against segments in
+ * place.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullTextSection#encode(int, Object)
+ * @see FullTextSection#setEncoded(int, FullTextEncodedValue)
+ * @see FullTextSection#valueEquals(int, FullTextEncodedValue)
+ * @see FullTextSection#valueStartsWith(int, FullTextEncodedValue)
+ */
+public final class FullTextEncodedValue {
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Returns a new instance of specified value's bytes, as they are; neither padded nor stripped.
+     * <p>
+     * Use {@link FullTextSection#encode(int, Object)} for a value padded to the length of a segment.
+     *
+     * @param value the value.
+     * @return a new instance of {@code value}'s bytes.
+     */
+    public static FullTextEncodedValue of(final String value) {
+        Objects.requireNonNull(value, "value is null");
+        return new FullTextEncodedValue(value.getBytes(FullTextSegmentCodecX.CHARSET));
+    }
+
+    static FullTextEncodedValue wrap(final byte[] bytes) {
+        return new FullTextEncodedValue(bytes);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextEncodedValue(final byte[] bytes) {
+        super();
+        this.bytes = Objects.requireNonNull(bytes, "bytes is null");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "bytes=" + new String(bytes, FullTextSegmentCodecX.CHARSET) +
+                '}';
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FullTextEncodedValue that)) {
+            return false;
+        }
+        return Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Checks whether specified region of specified buffer starts with the bytes of this value.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region.
+     * @param length the length of the region.
+     * @return {@code true} when the region starts with this value's bytes; {@code false} otherwise.
+     */
+    boolean isPrefixOf(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        if (bytes.length > length) {
+            return false;
+        }
+        if (data.hasArray()) {
+            final var from = data.arrayOffset() + offset;
+            return Arrays.equals(data.array(), from, from + bytes.length, bytes, 0, bytes.length);
+        }
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            if (data.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether specified region of specified buffer is equal to the bytes of this value.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region.
+     * @param length the length of the region.
+     * @return {@code true} when the region is equal to this value's bytes; {@code false} otherwise.
+     */
+    boolean isEqualTo(final ByteBuffer data, final int offset, final int length) {
+        return bytes.length == length && isPrefixOf(data, offset, length);
+    }
+
+    /**
+     * Copies the bytes of this value to specified region of specified buffer.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region.
+     * @param length the length of the region.
+     * @throws IllegalArgumentException when {@code length} is not equal to the length of this value.
+     */
+    void copyTo(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        if (bytes.length != length) {
+            throw new IllegalArgumentException(
+                    "value.length(" + bytes.length + ") != segment.length(" + length + ")"
+            );
+        }
+        data.put(offset, bytes);
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- length
+
+    /**
+     * Returns the number of bytes of this value.
+     *
+     * @return the number of bytes of this value.
+     */
+    public int getLength() {
+        return bytes.length;
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- bytes
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final byte[] bytes;
+}
@@ -0,0 +1,204 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A resumable decoder of length-prefixed frames of {@link FullText}s, for non-blocking channels.
+ * <p>
+ * A decoder keeps a partial length prefix, and a partial frame, between calls, and emits each complete, and decrypted
+ * when a cipher is specified, text as soon as its last byte arrives.
+ * {@snippet lang = java:
+ * // for each key selected for OP_READ
+ * final var channel = (SocketChannel) key.channel();
+ * final var decoder = (FullTextFrameDecoder) key.attachment();
+ * if (decoder.read(channel, text -> handle(text)) == -1) {
+ *     key.cancel();
+ *     channel.close();
+ * }
+ *}
+ * An instance of this class is not thread-safe; use one instance for each connection. When a complete frame fails to
+ * be decoded, or the consumer throws, the frame is dropped, its buffer, if leased, is returned to the pool, and the
+ * decoder is left at the start of the next frame; a consumer which throws should not keep the text. Once an invalid
+ * length prefix, e.g., a non-digit or {@code 0000}, or an I/O error, is encountered, however, the stream is out of
+ * sync, and the connection should be closed.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullText#readInstance(FullTextCategory, ReadableByteChannel, FullTextCipher, FullTextBufferPool)
+ */
+public final class FullTextFrameDecoder {
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance.
+     *
+     * @param category a category of texts to decode.
+     * @param cipher   a cipher; may be {@code null}.
+     * @return a new instance.
+     */
+    public static FullTextFrameDecoder newInstance(final FullTextCategory category, final FullTextCipher cipher) {
+        return newInstance(category, cipher, null);
+    }
+
+    /**
+     * Creates a new instance which receives frames into buffers leased from specified pool.
+     *
+     * @param category a category of texts to decode.
+     * @param cipher   a cipher; may be {@code null}.
+     * @param pool     a pool of buffers; may be {@code null}.
+     * @return a new instance.
+     * @see FullTextBufferPool#release(FullText)
+     */
+    public static FullTextFrameDecoder newInstance(final FullTextCategory category, final FullTextCipher cipher,
+                                                   final FullTextBufferPool pool) {
+        Objects.requireNonNull(category, "category is null");
+        return new FullTextFrameDecoder(category, cipher, pool);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextFrameDecoder(final FullTextCategory category, final FullTextCipher cipher,
+                                 final FullTextBufferPool pool) {
+        super();
+        this.category = category;
+        this.cipher = cipher;
+        this.pool = pool;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "category=" + category +
+                ",prefix=" + prefix +
+                ",frame=" + frame +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private void startFrame() {
+        try {
+            final var length = FullTextUtils.decodeLength(prefix);
+            if (length == 0) {
+                throw new IllegalArgumentException("invalid length(" + length + ")");
+            }
+            frame = pool == null ? ByteBuffer.allocate(length) : pool.lease(length);
+        } finally {
+            prefix.clear();
+        }
+    }
+
+    private void endFrame(final Consumer<? super FullText> consumer) {
+        final var received = frame;
+        frame = null; // reset before anything may throw
+        // returns the buffer to the pool by itself when fails
+        final var text = FullText.receiveInstance(category, received, cipher, pool);
+        try {
+            consumer.accept(text);
+        } catch (final RuntimeException | Error e) {
+            if (pool != null) {
+                pool.release(text); // does nothing when already released
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes remaining bytes of specified buffer, and accepts each complete text to specified consumer. All remaining
+     * bytes of the buffer are consumed; bytes of an incomplete frame are kept for following calls.
+     *
+     * @param src      the buffer of bytes read.
+     * @param consumer the consumer of complete texts.
+     * @return the number of texts accepted to {@code consumer}.
+     */
+    public int decode(final ByteBuffer src, final Consumer<? super FullText> consumer) {
+        Objects.requireNonNull(src, "src is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        var count = 0;
+        while (src.hasRemaining()) {
+            if (frame == null) {
+                while (prefix.hasRemaining() && src.hasRemaining()) {
+                    prefix.put(src.get());
+                }
+                if (prefix.hasRemaining()) {
+                    break;
+                }
+                startFrame();
+            }
+            final var length = Math.min(frame.remaining(), src.remaining());
+            frame.put(frame.position(), src, src.position(), length);
+            frame.position(frame.position() + length);
+            src.position(src.position() + length);
+            if (frame.hasRemaining()) {
+                break;
+            }
+            endFrame(consumer);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Reads bytes from specified channel, directly into the buffer of the current frame, until the channel has no
+     * more bytes available, and accepts each complete text to specified consumer.
+     *
+     * @param channel  the channel; usually a non-blocking one.
+     * @param consumer the consumer of complete texts.
+     * @return the number of texts accepted to {@code consumer}; {@code -1} when the channel has reached the
+     * end-of-stream before any frame.
+     * @throws EOFException when the channel has reached the end-of-stream in the middle of a frame.
+     * @throws IOException  if an I/O error occurs.
+     */
+    public int read(final ReadableByteChannel channel, final Consumer<? super FullText> consumer) throws IOException {
+        Objects.requireNonNull(channel, "channel is null");
+        Objects.requireNonNull(consumer, "consumer is null");
+        var count = 0;
+        while (true) {
+            if (frame == null) {
+                if (channel.read(prefix) == -1) {
+                    if (prefix.position() > 0) {
+                        throw new EOFException("unexpected end-of-file while reading length bytes");
+                    }
+                    return count == 0 ? -1 : count;
+                }
+                if (prefix.hasRemaining()) {
+                    return count;
+                }
+                startFrame();
+            }
+            if (channel.read(frame) == -1 && frame.hasRemaining()) {
+                throw new EOFException("unexpected end-of-file while reading text bytes");
+            }
+            if (frame.hasRemaining()) {
+                return count;
+            }
+            endFrame(consumer);
+            count++;
+        }
+    }
+
+    /**
+     * Checks whether this decoder holds bytes of an incomplete frame.
+     *
+     * @return {@code true} when this decoder holds bytes of an incomplete frame; {@code false} otherwise.
+     */
+    public boolean isPending() {
+        return prefix.position() > 0 || frame != null;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final FullTextCategory category;
+
+    private final FullTextCipher cipher;
+
+    private final FullTextBufferPool pool;
+
+    private final ByteBuffer prefix = ByteBuffer.allocate(FullTextUtils.LENGTH_BYTES);
+
+    // the buffer of the current frame; null while reading the prefix
+    private ByteBuffer frame;
+}
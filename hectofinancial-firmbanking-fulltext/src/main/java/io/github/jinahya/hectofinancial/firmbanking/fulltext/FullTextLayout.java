@@ -0,0 +1,338 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * A compact, immutable layout of segments of a section, which is shared by all sections of the same type.
+ * <p>
+ * Offsets, lengths, codec kinds, and scales of segments are held in parallel arrays, so that accessing a segment is an
+ * array lookup followed by a {@code switch} on its kind; no {@link FullTextSegment} nor virtual codec call is
+ * involved. Segments may also be looked up by their names, with a sorted index, once. Only tags of segments are kept;
+ * {@link FullTextSegment}s are derived on demand, for diagnostics.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullTextSectionRegistry
+ */
+final class FullTextLayout {
+
+    static final byte KIND_X = 1;
+
+    static final byte KIND_9 = 2;
+
+    static final byte KIND_9_LONG = 3;
+
+    static final byte KIND_9V = 4;
+
+    // the slot of a name shared by more than one segment
+    private static final int SLOT_AMBIGUOUS = -1;
+
+    private static final FullTextSegmentCodecX CODEC_X = new FullTextSegmentCodecX();
+
+    private static final FullTextSegmentCodec9 CODEC_9 = new FullTextSegmentCodec9();
+
+    private static final FullTextSegmentCodec9Long CODEC_9_LONG = new FullTextSegmentCodec9Long();
+
+    private static byte kind(final FullTextSegmentCodec<?> codec) {
+        if (codec instanceof FullTextSegmentCodecX) {
+            return KIND_X;
+        }
+        if (codec instanceof FullTextSegmentCodec9) {
+            return KIND_9;
+        }
+        if (codec instanceof FullTextSegmentCodec9Long) {
+            return KIND_9_LONG;
+        }
+        if (codec instanceof FullTextSegmentCodec9V) {
+            return KIND_9V;
+        }
+        throw new IllegalArgumentException("unknown codec: " + codec);
+    }
+
+    /**
+     * Returns the name of specified tag; the text before {@code ;}, if any, without leading and trailing whitespaces.
+     *
+     * @param tag the tag; e.g., {@code 출금후잔액부호; 양수 : '+'}.
+     * @return the name of {@code tag}; e.g., {@code 출금후잔액부호}.
+     */
+    static String name(final String tag) {
+        final var semicolon = tag.indexOf(';');
+        return (semicolon == -1 ? tag : tag.substring(0, semicolon)).strip();
+    }
+
+    /**
+     * Returns the type of values of specified kind.
+     *
+     * @param kind the kind.
+     * @return the type of values of {@code kind}.
+     */
+    static Class<?> valueType(final byte kind) {
+        return switch (kind) {
+            case KIND_X -> String.class;
+            case KIND_9 -> Integer.class;
+            case KIND_9_LONG -> Long.class;
+            case KIND_9V -> BigDecimal.class;
+            default -> throw new AssertionError("unknown kind: " + kind);
+        };
+    }
+
+    /**
+     * Checks that specified segments are of specified value types, in order; e.g., those which a compiled schema
+     * declared for its accessors.
+     *
+     * @param segments   the segments.
+     * @param valueTypes the expected value types of {@code segments}.
+     * @throws AssertionError when any of {@code segments} is not of the expected value type.
+     */
+    static void checkValueTypes(final List<FullTextSegment> segments, final Class<?>... valueTypes) {
+        if (segments.size() != valueTypes.length) {
+            throw new AssertionError(
+                    "segments.size(" + segments.size() + ") != valueTypes.length(" + valueTypes.length + ")");
+        }
+        for (int i = 0; i < valueTypes.length; i++) {
+            final var valueType = valueType(kind(segments.get(i).getCodec()));
+            if (valueType != valueTypes[i]) {
+                throw new AssertionError(
+                        "segments[" + i + "] is of " + valueType + ", not of " + valueTypes[i]);
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Returns a new instance of specified segments.
+     *
+     * @param segments the segments.
+     * @return a new instance of {@code segments}.
+     */
+    static FullTextLayout of(final List<FullTextSegment> segments) {
+        Objects.requireNonNull(segments, "segments is null");
+        return new FullTextLayout(segments);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextLayout(final List<FullTextSegment> segments) {
+        super();
+        final var size = segments.size();
+        offsets = new int[size];
+        lengths = new int[size];
+        kinds = new byte[size];
+        scales = new int[size];
+        tags = new String[size];
+        var total = 0;
+        for (int i = 0; i < size; i++) {
+            final var segment = Objects.requireNonNull(segments.get(i), "segments[" + i + "] is null");
+            offsets[i] = segment.getOffset();
+            lengths[i] = segment.getLength();
+            kinds[i] = kind(segment.getCodec());
+            scales[i] = segment.getScale();
+            tags[i] = segment.getTag();
+            total += lengths[i];
+        }
+        length = total;
+        // names, in lexicographical order, and slots of the same indices
+        final var sorted = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparing(i -> name(tags[i])))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        names = new String[size];
+        nameSlots = new int[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = name(tags[sorted[i]]);
+            nameSlots[i] = sorted[i];
+            if (i > 0 && names[i].equals(names[i - 1])) {
+                nameSlots[i] = nameSlots[i - 1] = SLOT_AMBIGUOUS;
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "segments=" + getSegments() +
+                ",length=" + length +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the zero-based slot of specified segment index.
+     *
+     * @param index the index of the segment; starts from {@code 1}.
+     * @return the slot of {@code index}; {@code index - 1}.
+     * @throws IllegalArgumentException when {@code index} is not valid.
+     */
+    int slot(final int index) {
+        if (index <= 0) {
+            throw new IllegalArgumentException("index(" + index + ") is not positive");
+        }
+        if (index > kinds.length) {
+            throw new IllegalArgumentException("no segment at index(" + index + ")");
+        }
+        return index - 1;
+    }
+
+    int offset(final int slot) {
+        return offsets[slot];
+    }
+
+    int length(final int slot) {
+        return lengths[slot];
+    }
+
+    int scale(final int slot) {
+        return scales[slot];
+    }
+
+    /**
+     * Returns a new segment equivalent to the one of specified slot.
+     *
+     * @param slot the slot of the segment.
+     * @return a new segment of {@code slot}.
+     */
+    FullTextSegment segment(final int slot) {
+        final var offset = offsets[slot];
+        final var length = lengths[slot];
+        return switch (kinds[slot]) {
+            case KIND_X -> FullTextSegment.newInstanceOfX(offset, length, tags[slot]);
+            case KIND_9, KIND_9_LONG -> FullTextSegment.newInstanceOf9(offset, length, tags[slot]);
+            case KIND_9V -> FullTextSegment.newInstanceOf9V(offset, length, scales[slot], tags[slot]);
+            default -> throw new AssertionError("unknown kind: " + kinds[slot]);
+        };
+    }
+
+    byte kind(final int slot) {
+        return kinds[slot];
+    }
+
+    /**
+     * Returns the slot of the segment of specified name.
+     *
+     * @param name the name of the segment; e.g., {@code 출금금액}.
+     * @return the slot of the segment named {@code name}.
+     * @throws IllegalArgumentException when no segment, or more than one segment, is named {@code name}.
+     * @see #name(String)
+     */
+    int slot(final String name) {
+        Objects.requireNonNull(name, "name is null");
+        final var i = Arrays.binarySearch(names, name);
+        if (i < 0) {
+            throw new IllegalArgumentException("no segment named '" + name + "'");
+        }
+        if (nameSlots[i] == SLOT_AMBIGUOUS) {
+            throw new IllegalArgumentException("more than one segment named '" + name + "'; use the index");
+        }
+        return nameSlots[i];
+    }
+
+    /**
+     * Decodes the value of the segment of specified slot from specified buffer.
+     *
+     * @param data the buffer.
+     * @param slot the slot of the segment.
+     * @return the decoded value.
+     */
+    Object decode(final ByteBuffer data, final int slot) {
+        assert data != null;
+        final var offset = offsets[slot];
+        final var length = lengths[slot];
+        return switch (kinds[slot]) {
+            case KIND_X -> CODEC_X.decode(data, offset, length);
+            case KIND_9 -> CODEC_9.decode(data, offset, length);
+            case KIND_9_LONG -> CODEC_9_LONG.decode(data, offset, length);
+            case KIND_9V -> FullTextSegmentCodec9V.decodeDecimal(data, offset, length, scales[slot]);
+            default -> throw new AssertionError("unknown kind: " + kinds[slot]);
+        };
+    }
+
+    /**
+     * Encodes specified value into the segment of specified slot of specified buffer.
+     *
+     * @param data  the buffer.
+     * @param slot  the slot of the segment.
+     * @param value the value to encode; {@code null} for spaces.
+     */
+    void encode(final ByteBuffer data, final int slot, final Object value) {
+        assert data != null;
+        encode(data, offsets[slot], slot, value);
+    }
+
+    private void encode(final ByteBuffer data, final int offset, final int slot, final Object value) {
+        final var length = lengths[slot];
+        switch (kinds[slot]) {
+            case KIND_X -> CODEC_X.encode(value, data, offset, length);
+            case KIND_9 -> CODEC_9.encode(value, data, offset, length);
+            case KIND_9_LONG -> CODEC_9_LONG.encode(value, data, offset, length);
+            case KIND_9V -> FullTextSegmentCodec9V.encodeDecimal(value, data, offset, length, scales[slot]);
+            default -> throw new AssertionError("unknown kind: " + kinds[slot]);
+        }
+    }
+
+    /**
+     * Encodes specified value for the segment of specified slot.
+     *
+     * @param slot  the slot of the segment.
+     * @param value the value to encode; {@code null} for spaces.
+     * @return a pre-encoded value, padded to the length of the segment.
+     */
+    FullTextEncodedValue preEncode(final int slot, final Object value) {
+        final var bytes = new byte[lengths[slot]];
+        encode(ByteBuffer.wrap(bytes), 0, slot, value);
+        return FullTextEncodedValue.wrap(bytes);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the number of segments.
+     *
+     * @return the number of segments.
+     */
+    int size() {
+        return kinds.length;
+    }
+
+    /**
+     * Returns the total length of all segments.
+     *
+     * @return the total length of all segments.
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns a list of new segments equivalent to those of this layout.
+     *
+     * @return a list of new segments.
+     * @see #segment(int)
+     */
+    List<FullTextSegment> getSegments() {
+        return IntStream.range(0, kinds.length).mapToObj(this::segment).toList();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final int[] offsets;
+
+    private final int[] lengths;
+
+    private final byte[] kinds;
+
+    private final int[] scales;
+
+    private final String[] tags;
+
+    private final int length;
+
+    private final String[] names;
+
+    private final int[] nameSlots;
+}
@@ -0,0 +1,205 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.lang.ref.Cleaner;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An opt-in pool of reusable {@link FullText}s, which holds, for each type of {@code 전문}, up to a bounded number of
+ * returned instances.
+ * {@snippet lang = java:
+ * static final FullTextPool POOL = FullTextPool.newInstance(64, true);
+ *
+ * final var text = POOL.lease(FullTextCategory.D, "2000", "100");
+ * try {
+ *     // ...
+ *     text.write(channel);
+ * } finally {
+ *     POOL.release(text);
+ * }
+ *}
+ * An instance of this class is thread-safe, and non-blocking; idle texts are kept in lock-free queues, bounded by
+ * atomic counters, so neither leasing nor releasing ever waits for a lock. A leased text should be released exactly
+ * once, and should not be used after being released. When leak detection is enabled, a text which became unreachable
+ * without being released is reported with a {@link System.Logger.Level#WARNING WARNING}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class FullTextPool {
+
+    private static final System.Logger LOGGER = System.getLogger(FullTextPool.class.getName());
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity    the maximum number of idle texts of each type.
+     * @param detectLeaks a flag for detecting leased texts which are never released.
+     * @return a new instance.
+     */
+    public static FullTextPool newInstance(final int capacity, final boolean detectLeaks) {
+        return newInstance(capacity, detectLeaks, FullTextAllocator.heap());
+    }
+
+    /**
+     * Creates a new instance which creates texts with specified allocator.
+     *
+     * @param capacity    the maximum number of idle texts of each type.
+     * @param detectLeaks a flag for detecting leased texts which are never released.
+     * @param allocator   the allocator of buffers backing new texts.
+     * @return a new instance.
+     * @see FullText#newInstance(FullTextCategory, String, String, FullTextAllocator)
+     */
+    public static FullTextPool newInstance(final int capacity, final boolean detectLeaks,
+                                           final FullTextAllocator allocator) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") is not positive");
+        }
+        Objects.requireNonNull(allocator, "allocator is null");
+        return new FullTextPool(capacity, detectLeaks, allocator);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A bounded, lock-free queue of idle texts of a type.
+     */
+    private static final class Idles {
+
+        private Idles(final int capacity) {
+            super();
+            this.capacity = capacity;
+        }
+
+        /**
+         * Retrieves and removes an idle text, if any.
+         *
+         * @return an idle text; {@code null} when empty.
+         */
+        FullText poll() {
+            final var text = queue.poll();
+            if (text != null) {
+                size.decrementAndGet();
+            }
+            return text;
+        }
+
+        /**
+         * Adds specified text unless this queue is already full.
+         *
+         * @param text the text to add.
+         * @return {@code true} when added; {@code false} when full.
+         */
+        boolean offer(final FullText text) {
+            if (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            queue.offer(text);
+            return true;
+        }
+
+        private final int capacity;
+
+        private final Queue<FullText> queue = new ConcurrentLinkedQueue<>();
+
+        // the number of idle texts, reserved before added, and released after removed
+        private final AtomicInteger size = new AtomicInteger();
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextPool(final int capacity, final boolean detectLeaks, final FullTextAllocator allocator) {
+        super();
+        this.capacity = capacity;
+        this.detectLeaks = detectLeaks;
+        this.allocator = allocator;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "capacity=" + capacity +
+                ",detectLeaks=" + detectLeaks +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private Idles idles(final FullTextLayout bodyLayout) {
+        final var idles = pools.get(bodyLayout);
+        if (idles != null) {
+            return idles;
+        }
+        return pools.computeIfAbsent(bodyLayout, l -> new Idles(capacity));
+    }
+
+    /**
+     * Leases a reset text of specified category, {@code 전문구분코드}, and {@code 업무구분코드}; an idle one, reset, and
+     * stamped with the codes, when available, or a new one otherwise.
+     *
+     * @param category the category.
+     * @param textCode the {@code 전문구분코드}.
+     * @param taskCode the {@code 업무구분코드}.
+     * @return a reset text of {@code category}, {@code textCode}, and {@code taskCode}.
+     * @see #release(FullText)
+     */
+    public FullText lease(final FullTextCategory category, final String textCode, final String taskCode) {
+        Objects.requireNonNull(category, "category is null");
+        Objects.requireNonNull(textCode, "textCode is null");
+        Objects.requireNonNull(taskCode, "taskCode is null");
+        var text = idles(FullTextSectionRegistry.getBodyLayout(category, textCode, taskCode)).poll();
+        if (text == null) {
+            text = FullText.newInstance(category, textCode, taskCode, allocator);
+        } else {
+            // the codes of the idle one may have been changed while leased
+            text.reset(textCode, taskCode);
+        }
+        final var state = text.getPoolState();
+        final var leased = state.lease(this);
+        assert leased : "idle text leased";
+        if (detectLeaks) {
+            final var type = category.name() + textCode + '_' + taskCode;
+            // the action shouldn't refer the text
+            state.setCleanable(CLEANER.register(text, () -> {
+                if (state.isLeased()) {
+                    LOGGER.log(System.Logger.Level.WARNING, "a leased text of {0} has never been released", type);
+                }
+            }));
+        }
+        return text;
+    }
+
+    /**
+     * Releases specified text, which has been leased from this pool. The text loses its cipher, and is kept for a
+     * following lease, which resets it, unless there are already {@code capacity} idle texts of the same type.
+     *
+     * @param text the text to release.
+     * @throws IllegalArgumentException when {@code text} is not leased from this pool, or is already released.
+     * @see #lease(FullTextCategory, String, String)
+     */
+    public void release(final FullText text) {
+        Objects.requireNonNull(text, "text is null");
+        if (!text.getPoolState().release(this)) {
+            throw new IllegalArgumentException("text(" + text + ") is not leased from " + this);
+        }
+        text.setCipher(null);
+        idles(text.getBodyLayout()).offer(text);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final int capacity;
+
+    private final boolean detectLeaks;
+
+    private final FullTextAllocator allocator;
+
+    // body layout -> idle texts
+    private final ConcurrentMap<FullTextLayout, Idles> pools = new ConcurrentHashMap<>();
+}
@@ -1,16 +1,11 @@
 package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -19,10 +14,11 @@ import java.util.function.Function;
 })
 public class FullTextSection {
 
+    private static final byte SIGN_POSITIVE = '+';
+
+    private static final byte SIGN_NEGATIVE = '-';
+
     // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
-    // category -> textCode -> taskCode -> segments
-    private static final Map<FullTextCategory, List<FullTextSegment>> HEAD_SEGMENTS =
-            Collections.synchronizedMap(new EnumMap<>(FullTextCategory.class));
 
     /**
      * Returns a new instance of the {@code 공통부} for specified category.
@@ -32,16 +28,12 @@ public class FullTextSection {
      */
     static FullTextSection newHeadInstance(final FullTextCategory category) {
         Objects.requireNonNull(category, "category is null");
-        final var segments = HEAD_SEGMENTS.computeIfAbsent(category, FullTextSectionUtils::loadHeadSegments);
-        final var instance = new FullTextSection(segments);
+        final var layout = FullTextSectionRegistry.getHeadLayout(category);
+        final var instance = new FullTextSection(layout, ByteBuffer.allocate(layout.getLength()));
         instance.reset();
         return instance;
     }
 
-    // category -> textCode -> taskCode -> segments
-    private static final Map<FullTextCategory, Map<String, Map<String, List<FullTextSegment>>>> BODY_SEGMENTS =
-            Collections.synchronizedMap(new EnumMap<>(FullTextCategory.class));
-
     /**
      * Returns a new instance for specified category, {@code 전문구분코드}, and {@code 업무구분코드}.
      *
@@ -55,28 +47,44 @@ public class FullTextSection {
         Objects.requireNonNull(category, "category is null");
         Objects.requireNonNull(textCode, "textCode is null");
         Objects.requireNonNull(taskCode, "taskCode is null");
-        final var segments = BODY_SEGMENTS
-                .computeIfAbsent(category, c -> Collections.synchronizedMap(new HashMap<>()))
-                .computeIfAbsent(textCode, tc -> Collections.synchronizedMap(new HashMap<>()))
-                .computeIfAbsent(taskCode, tc -> FullTextSectionUtils.loadBodySegments(category, textCode, tc));
-        final var instance = new FullTextSection(segments);
+        final var layout = FullTextSectionRegistry.getBodyLayout(category, textCode, taskCode);
+        final var instance = new FullTextSection(layout, ByteBuffer.allocate(layout.getLength()));
         instance.reset();
         return instance;
     }
 
+    /**
+     * Returns a new instance of specified layout on top of specified buffer; e.g., a slice of a buffer of a whole
+     * {@link FullText}. The content of the buffer is neither reset nor copied.
+     *
+     * @param layout the layout.
+     * @param buffer the buffer whose {@link ByteBuffer#capacity() capacity} is equal to the length of {@code layout}.
+     * @return a new instance of {@code layout} on top of {@code buffer}.
+     */
+    static FullTextSection newInstance(final FullTextLayout layout, final ByteBuffer buffer) {
+        Objects.requireNonNull(layout, "layout is null");
+        Objects.requireNonNull(buffer, "buffer is null");
+        if (buffer.capacity() != layout.getLength()) {
+            throw new IllegalArgumentException(
+                    "buffer.capacity(" + buffer.capacity() + ") != layout.length(" + layout.getLength() + ")"
+            );
+        }
+        return new FullTextSection(layout, buffer);
+    }
+
     // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
-    private FullTextSection(final List<FullTextSegment> segments) {
+    private FullTextSection(final FullTextLayout layout, final ByteBuffer buffer) {
         super();
-        this.segments = List.copyOf(segments);
-        length = this.segments.stream().mapToInt(FullTextSegment::getLength).sum();
-        buffer = ByteBuffer.allocate(length);
+        this.layout = Objects.requireNonNull(layout, "layout is null");
+        length = layout.getLength();
+        this.buffer = Objects.requireNonNull(buffer, "buffer is null");
     }
 
     // -----------------------------------------------------------------------------------------------------------------
     @Override
     public String toString() {
         return super.toString() + '{' +
-                "segments=" + segments +
+                "layout=" + layout +
                 ",length=" + length +
                 ",data=" + buffer +
                 '}';
@@ -89,126 +97,500 @@ public class FullTextSection {
         }
         final var that = (FullTextSection) obj;
         return length == that.length &&
-                Objects.equals(segments, that.segments) &&
+                Objects.equals(layout, that.layout) &&
                 Objects.equals(buffer, that.buffer);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(segments, length, buffer);
+        return Objects.hash(layout, length, buffer);
     }
 
     // -------------------------------------------------------------------------------------------------------- segments
     List<FullTextSegment> getSegments() {
-        return segments;
+        return layout.getSegments();
     }
 
-    private int requireValidIndex(final int index) {
-        if (index <= 0) {
-            throw new IllegalArgumentException("index(" + index + ") is not positive");
-        }
-        if (index > segments.size()) {
-            throw new IllegalArgumentException("no segment at index(" + index + ")");
+    FullTextLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the index of the segment of specified name.
+     *
+     * @param name the name of the segment; the text of its tag before {@code ;}, e.g., {@code 출금금액}.
+     * @return the index of the segment named {@code name}; starts from {@code 1}.
+     * @throws IllegalArgumentException when no segment, or more than one segment, is named {@code name}.
+     * @see #getHandle(String, Class)
+     */
+    public int indexOf(final String name) {
+        return layout.slot(name) + 1;
+    }
+
+    /**
+     * Resolves a handle of the segment of specified name, which can be used for all sections of the same type as this
+     * section. Resolve once, and keep the handle.
+     *
+     * @param name the name of the segment; the text of its tag before {@code ;}, e.g., {@code 출금금액}.
+     * @param type the type of values of the segment; {@link String} for {@code X}, {@link Integer} for {@code 9} of up
+     *             to {@value FullTextSegmentCodec9#MAX_INT_LENGTH} digits, {@link Long} for a longer {@code 9}, and
+     *             {@link BigDecimal} for {@code 9V}.
+     * @param <T>  value type parameter
+     * @return a handle of the segment named {@code name}.
+     * @throws IllegalArgumentException when no segment, or more than one segment, is named {@code name}; or
+     *                                  {@code type} is not assignable from the type of values of the segment.
+     * @see #indexOf(String)
+     */
+    public <T> FullTextSegmentHandle<T> getHandle(final String name, final Class<T> type) {
+        Objects.requireNonNull(type, "type is null");
+        final var slot = layout.slot(name);
+        final var valueType = FullTextLayout.valueType(layout.kind(slot));
+        if (!type.isAssignableFrom(valueType)) {
+            throw new IllegalArgumentException(
+                    "type(" + type + ") is not assignable from " + valueType + " of " + layout.segment(slot)
+            );
         }
-        return index;
+        return new FullTextSegmentHandle<>(layout, slot, type);
     }
 
     public <T> T getValue(final int index) {
-        final var segment = segments.get(requireValidIndex(index) - 1);
-        return segment.getValue(buffer);
+        @SuppressWarnings({"unchecked"})
+        final var decoded = (T) layout.decode(buffer, layout.slot(index));
+        return decoded;
     }
 
     public void setValue(final int index, final Object value) {
-        final var segment = segments.get(requireValidIndex(index) - 1);
-        segment.setValue(buffer, value);
+        layout.encode(buffer, layout.slot(index), value);
+    }
+
+    /**
+     * Encodes specified value for the segment of specified index. The result is meant to be prepared once, and to be
+     * compared against the segment in place.
+     *
+     * @param index the index of the segment.
+     * @param value the value to encode; {@code null} for spaces.
+     * @return a pre-encoded value, padded to the length of the segment.
+     * @see #setEncoded(int, FullTextEncodedValue)
+     * @see #valueEquals(int, FullTextEncodedValue)
+     */
+    public FullTextEncodedValue encode(final int index, final Object value) {
+        return layout.preEncode(layout.slot(index), value);
+    }
+
+    /**
+     * Sets the segment of specified index with specified pre-encoded value, by copying its bytes without encoding.
+     * {@snippet lang = java:
+     * static final FullTextEncodedValue COMPANY_NO = FullText.newInstance(FullTextCategory.D, "1000", "100")
+     *         .applyHeadSection(s -> s.encode(2, "COMPANY1")); // 2 업체번호
+     *
+     * text.acceptHeadSection(s -> s.setEncoded(2, COMPANY_NO));
+     *}
+     *
+     * @param index the index of the segment.
+     * @param value the pre-encoded value whose length is equal to the length of the segment.
+     * @throws IllegalArgumentException when the length of {@code value} is not equal to the length of the segment.
+     * @see #encode(int, Object)
+     */
+    public void setEncoded(final int index, final FullTextEncodedValue value) {
+        Objects.requireNonNull(value, "value is null");
+        final var slot = layout.slot(index);
+        value.copyTo(buffer, layout.offset(slot), layout.length(slot));
+    }
+
+    /**
+     * Checks whether the segment of specified index is equal to specified pre-encoded value, without decoding.
+     * {@snippet lang = java:
+     * static final FullTextEncodedValue SUCCESS = FullText.newInstance(FullTextCategory.D, "1000", "100")
+     *         .applyHeadSection(s -> s.encode(10, "0000")); // 10 응답코드
+     *
+     * boolean succeeded = text.applyHeadSection(s -> s.valueEquals(10, SUCCESS));
+     *}
+     *
+     * @param index the index of the segment.
+     * @param value the pre-encoded value.
+     * @return {@code true} when the segment is equal to {@code value}; {@code false} otherwise.
+     * @see #encode(int, Object)
+     */
+    public boolean valueEquals(final int index, final FullTextEncodedValue value) {
+        Objects.requireNonNull(value, "value is null");
+        final var slot = layout.slot(index);
+        return value.isEqualTo(buffer, layout.offset(slot), layout.length(slot));
     }
 
     /**
-     * Returns the value, of a segment of specified index, in {@code int}.
+     * Checks whether the segment of specified index starts with specified pre-encoded value, without decoding.
+     *
+     * @param index  the index of the segment.
+     * @param prefix the pre-encoded value.
+     * @return {@code true} when the segment starts with {@code prefix}; {@code false} otherwise.
+     * @see FullTextEncodedValue#of(String)
+     */
+    public boolean valueStartsWith(final int index, final FullTextEncodedValue prefix) {
+        Objects.requireNonNull(prefix, "prefix is null");
+        final var slot = layout.slot(index);
+        return prefix.isPrefixOf(buffer, layout.offset(slot), layout.length(slot));
+    }
+
+    /**
+     * Checks whether the segment of specified index contains only spaces, without decoding.
      *
      * @param index the index of the segment.
-     * @return the value of the segment of specified index in {@code int}.
+     * @return {@code true} when the segment is blank; {@code false} otherwise.
+     */
+    public boolean isBlank(final int index) {
+        final var slot = layout.slot(index);
+        return FullTextSegmentCodec.isBlank(buffer, layout.offset(slot), layout.length(slot));
+    }
+
+    /**
+     * Checks whether the segment of specified index contains only ASCII digits, without decoding.
+     *
+     * @param index the index of the segment.
+     * @return {@code true} when the segment contains only digits; {@code false} otherwise.
+     */
+    public boolean isAllDigits(final int index) {
+        final var slot = layout.slot(index);
+        return FullTextSegmentCodec.isAllDigits(buffer, layout.offset(slot), layout.length(slot));
+    }
+
+    /**
+     * Resets specified view to the segment of specified index, and returns the view.
+     *
+     * @param index the index of the segment.
+     * @param view  the view to reset.
+     * @return given {@code view}.
+     * @see FullTextSegmentView
+     */
+    public FullTextSegmentView getView(final int index, final FullTextSegmentView view) {
+        Objects.requireNonNull(view, "view is null");
+        final var slot = layout.slot(index);
+        return view.set(buffer, layout.offset(slot), layout.length(slot));
+    }
+
+    /**
+     * Returns the value, of a segment of specified index, in {@code int}. The value is parsed directly from the digits
+     * in this section's buffer, without any intermediate object.
+     *
+     * @param index the index of the segment.
+     * @return the value of the segment of specified index in {@code int}; {@code 0} when the segment is blank or is
+     * not a valid number.
+     * @throws ArithmeticException when the value, of a segment longer than
+     *                             {@value FullTextSegmentCodec9#MAX_INT_LENGTH} digits, overflows an {@code int}; use
+     *                             {@link #getLong(int)} for such segments.
+     * @see #setInt(int, int)
      */
     public int getInt(final int index) {
+        final var slot = layout.slot(index);
+        final long value;
         try {
-            return this.<Integer>getValue(index);
-        } catch (final NullPointerException npe) {
+            value = FullTextSegmentCodec9.decodeLong(buffer, layout.offset(slot), layout.length(slot));
+        } catch (final NumberFormatException nfe) {
             return 0;
         }
+        return FullTextSegmentCodec9.intValueExact(value);
     }
 
     /**
      * Sets specified value of {@code int} to the segment of specified index.
      *
      * @param index the index of the segment.
-     * @param value new value for the segment.
+     * @param value new value for the segment; {@code null} for spaces.
      */
     public void setInt(final int index, final Integer value) {
         setValue(index, value);
     }
 
     /**
-     * Returns the value of specified segment index as an instance of {@link LocalDate}.
+     * Sets specified value of {@code int} to the segment of specified index. The value is written, as zero-padded
+     * digits, directly into this section's buffer, without any intermediate object.
+     *
+     * @param index the index of the segment.
+     * @param value new value for the segment; must be non-negative.
+     * @see #getInt(int)
+     */
+    public void setInt(final int index, final int value) {
+        final var slot = layout.slot(index);
+        FullTextSegmentCodec9.encodeInt(buffer, layout.offset(slot), layout.length(slot), value);
+    }
+
+    /**
+     * Returns the value, of a segment of specified index, in {@code long}. The value is parsed directly from the digits
+     * in this section's buffer, without any intermediate object.
+     *
+     * @param index the index of the segment.
+     * @return the value of the segment of specified index in {@code long}; {@code 0L} when the segment is blank or is
+     * not a valid number.
+     * @see #setLong(int, long)
+     */
+    public long getLong(final int index) {
+        final var slot = layout.slot(index);
+        try {
+            return FullTextSegmentCodec9.decodeLong(buffer, layout.offset(slot), layout.length(slot));
+        } catch (final NumberFormatException nfe) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Sets specified value of {@code long} to the segment of specified index. The value is written, as zero-padded
+     * digits, directly into this section's buffer, without any intermediate object.
+     *
+     * @param index the index of the segment.
+     * @param value new value for the segment; must be non-negative.
+     * @see #getLong(int)
+     */
+    public void setLong(final int index, final long value) {
+        final var slot = layout.slot(index);
+        FullTextSegmentCodec9.encodeLong(buffer, layout.offset(slot), layout.length(slot), value);
+    }
+
+    /**
+     * Returns the value, of a segment of specified index, as an instance of {@link BigDecimal}. The scale of the result
+     * is the number of implied decimal places of the segment.
+     *
+     * @param index the index of the segment.
+     * @return the value of the segment of specified index; {@code null} when the segment is blank or is not a valid
+     * number.
+     * @apiNote Use {@link #getLong(int)}, which returns the unscaled value, for comparing or summing without
+     * {@link BigDecimal}s.
+     * @see #setDecimal(int, BigDecimal)
+     */
+    public BigDecimal getDecimal(final int index) {
+        final var slot = layout.slot(index);
+        return FullTextSegmentCodec9V.decodeDecimal(buffer, layout.offset(slot), layout.length(slot),
+                                                    layout.scale(slot));
+    }
+
+    /**
+     * Sets specified value of {@link BigDecimal} to the segment of specified index.
+     *
+     * @param index the index of the segment.
+     * @param value new value for the segment; {@code null} for spaces.
+     * @throws IllegalArgumentException when {@code value} can't be represented in the number of implied decimal places
+     *                                  of the segment without rounding.
+     * @apiNote Use {@link #setLong(int, long)}, which takes the unscaled value, for avoiding {@link BigDecimal}s.
+     * @see #getDecimal(int)
+     */
+    public void setDecimal(final int index, final BigDecimal value) {
+        final var slot = layout.slot(index);
+        if (value == null) {
+            FullTextSegmentCodec.fill(buffer, layout.offset(slot), layout.length(slot));
+            return;
+        }
+        final long unscaled;
+        try {
+            unscaled = value.setScale(layout.scale(slot)).unscaledValue().longValueExact();
+        } catch (final ArithmeticException ae) {
+            throw new IllegalArgumentException("value(" + value + ") doesn't fit in " + layout.segment(slot), ae);
+        }
+        FullTextSegmentCodec9.encodeLong(buffer, layout.offset(slot), layout.length(slot), unscaled);
+    }
+
+    /**
+     * Returns the signed value of specified sign segment and specified value segment; e.g., {@code 출금후잔액부호} and
+     * {@code 출금잔액}. The value is parsed directly from this section's buffer, without any intermediate object.
+     *
+     * @param signIndex  the index of the sign segment, whose value is either {@code '+'} or {@code '-'}.
+     * @param valueIndex the index of the value segment.
+     * @return the signed value; {@code 0L} when the value segment is blank or is not a valid number.
+     * @throws IllegalArgumentException when the length of the sign segment is not {@code 1}.
+     * @see #setSignedLong(int, int, long)
+     */
+    public long getSignedLong(final int signIndex, final int valueIndex) {
+        final var sign = buffer.get(requireSignOffset(signIndex));
+        final var value = getLong(valueIndex);
+        return sign == SIGN_NEGATIVE ? -value : value;
+    }
+
+    /**
+     * Sets specified signed value to specified sign segment and specified value segment; e.g., {@code 출금후잔액부호}
+     * and {@code 출금잔액}. The value is written directly into this section's buffer, without any intermediate object.
+     *
+     * @param signIndex  the index of the sign segment.
+     * @param valueIndex the index of the value segment.
+     * @param value      the signed value.
+     * @throws IllegalArgumentException when the length of the sign segment is not {@code 1}, or the absolute value of
+     *                                  {@code value} doesn't fit in the value segment.
+     * @see #getSignedLong(int, int)
+     */
+    public void setSignedLong(final int signIndex, final int valueIndex, final long value) {
+        final var signOffset = requireSignOffset(signIndex);
+        if (value == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("value(" + value + ") is not supported");
+        }
+        setLong(valueIndex, Math.abs(value));
+        buffer.put(signOffset, value < 0L ? SIGN_NEGATIVE : SIGN_POSITIVE);
+    }
+
+    private int requireSignOffset(final int signIndex) {
+        final var slot = layout.slot(signIndex);
+        if (layout.length(slot) != 1) {
+            throw new IllegalArgumentException("invalid length of the sign segment: " + layout.segment(slot));
+        }
+        return layout.offset(slot);
+    }
+
+    // the uuuuMMdd value of the segment; 0 when blank
+    private int getPackedDate(final int index) {
+        final var slot = layout.slot(index);
+        final var offset = layout.offset(slot);
+        final var length = layout.length(slot);
+        if (FullTextSegmentCodec.isBlank(buffer, offset, length)) {
+            return 0;
+        }
+        return FullTextSegmentCodec9.decodeInt(buffer, offset, length);
+    }
+
+    /**
+     * Returns the value of specified segment index as an instance of {@link LocalDate}. The value is computed from the
+     * {@code uuuuMMdd} digits with plain arithmetic.
      *
      * @param index the segment index; starts from {@code 1}.
-     * @return the date value of {@code index}; {@code null} if not set.
+     * @return the date value of {@code index}; {@code null} if not set, i.e., blank or all zeros.
+     * @throws NumberFormatException when the segment is not a valid number.
      * @see #setDate(int, LocalDate)
+     * @see #getEpochDay(int)
      */
     public LocalDate getDate(final int index) {
-        return Optional.of(getInt(index))
-                .filter(v -> v != 0)
-                .map(Objects::toString)
-//                .map(String::strip)
-//                .filter(v -> !v.isBlank())
-                .map(v -> LocalDate.parse(v, FullTextSegmentCodecConstants.FORMATTER_DATE))
-                .orElse(null);
+        final var packed = getPackedDate(index);
+        if (packed == 0) {
+            return null;
+        }
+        return LocalDate.of(packed / 10000, packed / 100 % 100, packed % 100);
     }
 
     /**
-     * Replaces the value of specified segment index with specified value.
+     * Replaces the value of specified segment index with specified value. The value is written as {@code uuuuMMdd}
+     * digits with plain arithmetic.
      *
      * @param index the segment index; starts from {@code 1}.
-     * @param value new value for the segment at {@code index}.
+     * @param value new value for the segment at {@code index}; {@code null} for spaces.
      * @see #getDate(int)
      */
     public void setDate(final int index, final LocalDate value) {
         if (value == null) {
-            setValue(index, 0);
+            setValue(index, null);
             return;
         }
-        setValue(index, FullTextSegmentCodecConstants.FORMATTER_DATE.format(value));
+        setInt(index, value.getYear() * 10000 + value.getMonthValue() * 100 + value.getDayOfMonth());
+    }
+
+    /**
+     * Returns the value of specified segment index as an epoch day, without creating any object.
+     *
+     * @param index the segment index; starts from {@code 1}.
+     * @return the epoch day value of {@code index}; {@link Long#MIN_VALUE} if not set, i.e., blank or all zeros.
+     * @throws NumberFormatException when the segment is not a valid number.
+     * @see #setEpochDay(int, long)
+     * @see LocalDate#toEpochDay()
+     */
+    public long getEpochDay(final int index) {
+        final var packed = getPackedDate(index);
+        if (packed == 0) {
+            return Long.MIN_VALUE;
+        }
+        return FullTextSegmentCodec9.packedDateToEpochDay(packed);
+    }
+
+    /**
+     * Replaces the value of specified segment index with specified epoch day, without creating any object.
+     *
+     * @param index    the segment index; starts from {@code 1}.
+     * @param epochDay new value for the segment at {@code index}.
+     * @see #getEpochDay(int)
+     * @see LocalDate#ofEpochDay(long)
+     */
+    public void setEpochDay(final int index, final long epochDay) {
+        setInt(index, FullTextSegmentCodec9.epochDayToPackedDate(epochDay));
     }
 
     /**
-     * Returns the value of specified segment index as an instance of {@link LocalTime}.
+     * Returns the value of specified segment index as an instance of {@link LocalTime}. The value is computed from the
+     * {@code HHmmss} digits with plain arithmetic.
      *
      * @param index the segment index; starts from {@code 1}.
      * @return the time value of {@code index}; {@code null} if not set.
+     * @throws NumberFormatException when the segment is not a valid number.
      * @see #setTime(int, LocalTime)
+     * @see #getSecondOfDay(int)
      */
     public LocalTime getTime(final int index) {
-        return Optional.of(getInt(index))
-                .filter(v -> v != 0)
-                .map(Objects::toString)
-//                .map(String::strip)
-//                .filter(s -> !s.isBlank())
-                .map(v -> LocalTime.parse(v, FullTextSegmentCodecConstants.FORMATTER_TIME))
-                .orElse(null);
+        final var slot = layout.slot(index);
+        final var offset = layout.offset(slot);
+        final var length = layout.length(slot);
+        if (FullTextSegmentCodec.isBlank(buffer, offset, length)) {
+            return null;
+        }
+        final var packed = FullTextSegmentCodec9.decodeInt(buffer, offset, length);
+        return LocalTime.of(packed / 10000, packed / 100 % 100, packed % 100);
     }
 
     /**
-     * Replaces the value of specified segment index with specified value.
+     * Replaces the value of specified segment index with specified value. The value is written as {@code HHmmss}
+     * digits with plain arithmetic.
      *
      * @param index the segment index; starts from {@code 1}.
-     * @param value new value for the segment at {@code index}.
-     * @see #getDate(int)
+     * @param value new value for the segment at {@code index}; {@code null} for spaces.
+     * @see #getTime(int)
      */
     public void setTime(final int index, final LocalTime value) {
         if (value == null) {
-            setInt(index, 0);
+            setValue(index, null);
             return;
         }
-        setValue(index, FullTextSegmentCodecConstants.FORMATTER_TIME.format(value));
+        setInt(index, value.getHour() * 10000 + value.getMinute() * 100 + value.getSecond());
+    }
+
+    /**
+     * Returns the value of specified segment index as a second of day, without creating any object.
+     *
+     * @param index the segment index; starts from {@code 1}.
+     * @return the second of day value of {@code index}; {@code -1} if not set.
+     * @throws NumberFormatException when the segment is not a valid number.
+     * @see #setSecondOfDay(int, int)
+     * @see LocalTime#toSecondOfDay()
+     */
+    public int getSecondOfDay(final int index) {
+        final var slot = layout.slot(index);
+        final var offset = layout.offset(slot);
+        final var length = layout.length(slot);
+        if (FullTextSegmentCodec.isBlank(buffer, offset, length)) {
+            return -1;
+        }
+        return FullTextSegmentCodec9.packedTimeToSecondOfDay(FullTextSegmentCodec9.decodeInt(buffer, offset, length));
+    }
+
+    /**
+     * Replaces the value of specified segment index with specified second of day, without creating any object.
+     *
+     * @param index       the segment index; starts from {@code 1}.
+     * @param secondOfDay new value for the segment at {@code index}.
+     * @see #getSecondOfDay(int)
+     * @see LocalTime#ofSecondOfDay(long)
+     */
+    public void setSecondOfDay(final int index, final int secondOfDay) {
+        setInt(index, FullTextSegmentCodec9.secondOfDayToPackedTime(secondOfDay));
+    }
+
+    /**
+     * Replaces the values of specified date segment and time segment with the current date and time of specified
+     * clock. The cached bytes of the clock are copied as they are.
+     *
+     * @param dateIndex the index of the {@code uuuuMMdd} segment; starts from {@code 1}.
+     * @param timeIndex the index of the {@code HHmmss} segment; starts from {@code 1}.
+     * @param clock     the clock.
+     */
+    void setDateTimeAsNow(final int dateIndex, final int timeIndex, final FullTextClock clock) {
+        Objects.requireNonNull(clock, "clock is null");
+        final var dateSlot = layout.slot(dateIndex);
+        if (layout.length(dateSlot) != FullTextSegmentCodecConstants.LENGTH_DATE) {
+            throw new IllegalArgumentException("invalid length of the date segment: " + layout.segment(dateSlot));
+        }
+        final var timeSlot = layout.slot(timeIndex);
+        if (layout.length(timeSlot) != FullTextSegmentCodecConstants.LENGTH_TIME) {
+            throw new IllegalArgumentException("invalid length of the time segment: " + layout.segment(timeSlot));
+        }
+        clock.stamp(buffer, layout.offset(dateSlot), layout.offset(timeSlot));
     }
 
     // ---------------------------------------------------------------------------------------------------------- length
@@ -227,11 +609,21 @@ public class FullTextSection {
         return buffer;
     }
 
+    /**
+     * Checks whether this section is read-only.
+     *
+     * @return {@code true} when this section is read-only; {@code false} otherwise.
+     * @see FullText#asReadOnly()
+     */
+    public boolean isReadOnly() {
+        return buffer.isReadOnly();
+    }
+
     /**
      * Resets this section by setting data with spaces.
      */
     public void reset() {
-        Arrays.fill(buffer.array(), (byte) 0x20);
+        FullTextSegmentCodec.fill(buffer, 0, length);
     }
 
     /**
@@ -240,7 +632,7 @@ public class FullTextSection {
      * @return a string representation of this section.
      */
     public String getDataString() {
-        return FullTextSegmentCodecX.CHARSET.decode(buffer.clear()).toString();
+        return FullTextSegmentCodecX.CHARSET.decode(buffer.duplicate().clear()).toString();
     }
 
     ByteBuffer getData(final ByteBuffer dst) {
@@ -249,7 +641,8 @@ public class FullTextSection {
                     "dst.remaining(" + dst.remaining() + ") < length(" + length + ")"
             );
         }
-        return dst.put(buffer.clear());
+        final var position = dst.position();
+        return dst.put(position, buffer, 0, length).position(position + length);
     }
 
     byte[] getData(final byte[] dst) {
@@ -267,7 +660,9 @@ public class FullTextSection {
         if (Objects.requireNonNull(src, "src is null").remaining() != length) {
             throw new IllegalArgumentException("src.remaining(" + src.remaining() + ") != length(" + length + ")");
         }
-        buffer.clear().put(src);
+        final var position = src.position();
+        buffer.put(0, src, position, length);
+        src.position(position + length);
     }
 
     void setData(final byte[] src) {
@@ -278,7 +673,12 @@ public class FullTextSection {
     }
 
     /**
-     * Applies this section's data buffer to specified function, and returns the result.
+     * Applies a duplicate of this section's data buffer to specified function, and returns the result.
+     * <p>
+     * The content of the duplicate is shared with this section, so that changes to the content are visible to this
+     * section, and vice versa. The position, the limit, and the mark of the duplicate, however, are independent; moving
+     * those of the duplicate has no effect on this section. The duplicate is read-only when this section is read-only.
+     * Note that, prior to the duplicate, the function has been given the section's buffer itself.
      *
      * @param function the function.
      * @param <R>      result type parameter
@@ -286,13 +686,15 @@ public class FullTextSection {
      */
     public <R> R applyData(final Function<? super ByteBuffer, ? extends R> function) {
         Objects.requireNonNull(function, "function is null");
-        return function.apply(getBuffer());
+        return function.apply(getBuffer().duplicate());
     }
 
     /**
-     * Accepts this section's data buffer to specified consumer.
+     * Accepts a duplicate of this section's data buffer to specified consumer. The content of the duplicate is shared
+     * with this section, while its position, limit, and mark are independent.
      *
      * @param consumer the consumer.
+     * @see #applyData(Function)
      */
     public void acceptData(final Consumer<? super ByteBuffer> consumer) {
         Objects.requireNonNull(consumer, "consumer is null");
@@ -303,7 +705,7 @@ public class FullTextSection {
     }
 
     // -----------------------------------------------------------------------------------------------------------------
-    private final List<FullTextSegment> segments;
+    private final FullTextLayout layout;
 
     private final int length;
 
@@ -0,0 +1,193 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable registry of layouts of sections, which is eagerly loaded when this class is initialized.
+ * <p>
+ * Layouts of the {@code 공통부} are indexed by the {@link FullTextCategory#ordinal() ordinal} of each category.
+ * Layouts of each {@code 개별부} compiled into {@link FullTextSchemas} are indexed by a compact {@code int} id of its
+ * category, {@code 전문구분코드}, and {@code 업무구분코드}; see {@link #bodyId(FullTextCategory, String, String)}. No
+ * lock is taken for any of those. Only layouts which are not compiled, if any, are loaded on demand, and cached in a
+ * concurrent map.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullText#preload()
+ */
+final class FullTextSectionRegistry {
+
+    private static final int LENGTH_TEXT_CODE = 4;
+
+    private static final int LENGTH_TASK_CODE = 3;
+
+    private static final int SHIFT_TEXT_CODE = 10; // 999 < 1 << 10
+
+    private static final int SHIFT_CATEGORY = 24; // 9999 < 1 << 14
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the numeric value of specified code.
+     *
+     * @param code   the code.
+     * @param length the expected length of the code.
+     * @return the numeric value of {@code code}; {@code -1} when {@code code} is not {@code length} digits.
+     */
+    private static int parseCode(final String code, final int length) {
+        if (code.length() != length) {
+            return -1;
+        }
+        var value = 0;
+        for (int i = 0; i < length; i++) {
+            final var c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns a compact id of specified category, {@code 전문구분코드}, and {@code 업무구분코드}.
+     *
+     * @param category the category.
+     * @param textCode the {@code 전문구분코드}; four digits.
+     * @param taskCode the {@code 업무구분코드}; three digits.
+     * @return the compact id; {@code -1} when either {@code textCode} or {@code taskCode} is not a valid code.
+     */
+    static int bodyId(final FullTextCategory category, final String textCode, final String taskCode) {
+        final var text = parseCode(textCode, LENGTH_TEXT_CODE);
+        final var task = parseCode(taskCode, LENGTH_TASK_CODE);
+        if (text == -1 || task == -1) {
+            return -1;
+        }
+        return category.ordinal() << SHIFT_CATEGORY | text << SHIFT_TEXT_CODE | task;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // category.ordinal -> layout
+    private static final FullTextLayout[] HEAD_LAYOUTS;
+
+    // sorted body ids, and layouts of the same indices
+    private static final int[] BODY_IDS;
+
+    private static final FullTextLayout[] BODY_LAYOUTS;
+
+    static {
+        final var categories = FullTextCategory.values();
+        HEAD_LAYOUTS = new FullTextLayout[categories.length];
+        for (final var category : categories) {
+            HEAD_LAYOUTS[category.ordinal()] = FullTextLayout.of(FullTextSectionUtils.loadHeadSegments(category));
+        }
+        final var ids = new ArrayList<Integer>();
+        for (final var name : FullTextSchemas.NAMES) {
+            final var id = bodyId(name);
+            if (id != -1) {
+                ids.add(id);
+            }
+        }
+        BODY_IDS = ids.stream().mapToInt(Integer::intValue).sorted().toArray();
+        BODY_LAYOUTS = new FullTextLayout[BODY_IDS.length];
+        for (final var name : FullTextSchemas.NAMES) {
+            final var id = bodyId(name);
+            if (id != -1) {
+                BODY_LAYOUTS[Arrays.binarySearch(BODY_IDS, id)] = FullTextLayout.of(FullTextSchemas.getSegments(name));
+            }
+        }
+    }
+
+    /**
+     * Returns the body id of specified resource name; e.g., {@code D1000_100.body.segments}.
+     *
+     * @param name the resource name.
+     * @return the body id of {@code name}; {@code -1} when {@code name} is not of a {@code 개별부}.
+     */
+    private static int bodyId(final String name) {
+        if (!name.endsWith(FullTextSectionUtils.SUFFIX_BODY_SEGMENTS)) {
+            return -1;
+        }
+        final var codes = name.substring(0, name.length() - FullTextSectionUtils.SUFFIX_BODY_SEGMENTS.length());
+        for (final var category : FullTextCategory.values()) {
+            final var prefix = category.name();
+            final var underscore = codes.indexOf('_');
+            if (!codes.startsWith(prefix) || underscore == -1) {
+                continue;
+            }
+            return bodyId(category, codes.substring(prefix.length(), underscore), codes.substring(underscore + 1));
+        }
+        return -1;
+    }
+
+    // resource name -> layout; only for layouts not compiled
+    private static final ConcurrentMap<String, FullTextLayout> OTHER_LAYOUTS = new ConcurrentHashMap<>();
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Makes sure this class is initialized, and returns the number of preloaded layouts.
+     *
+     * @return the number of preloaded layouts.
+     */
+    static int preload() {
+        return HEAD_LAYOUTS.length + BODY_LAYOUTS.length;
+    }
+
+    static FullTextLayout getHeadLayout(final FullTextCategory category) {
+        Objects.requireNonNull(category, "category is null");
+        return HEAD_LAYOUTS[category.ordinal()];
+    }
+
+    static FullTextLayout getBodyLayout(final FullTextCategory category, final String textCode,
+                                        final String taskCode) {
+        Objects.requireNonNull(category, "category is null");
+        Objects.requireNonNull(textCode, "textCode is null");
+        Objects.requireNonNull(taskCode, "taskCode is null");
+        final var id = bodyId(category, textCode, taskCode);
+        if (id != -1) {
+            final var index = Arrays.binarySearch(BODY_IDS, id);
+            if (index >= 0) {
+                return BODY_LAYOUTS[index];
+            }
+        }
+        return OTHER_LAYOUTS.computeIfAbsent(
+                FullTextSectionUtils.getResourceNameForBodySegments(category, textCode, taskCode),
+                n -> FullTextLayout.of(FullTextSectionUtils.loadBodySegments(category, textCode, taskCode))
+        );
+    }
+
+    /**
+     * Returns the compiled layout of specified resource name; e.g., {@code D.head.segments}, or
+     * {@code D1000_100.body.segments}.
+     *
+     * @param name the resource name.
+     * @return the compiled layout of {@code name}.
+     * @throws IllegalArgumentException when no layout is compiled for {@code name}.
+     * @see FullTextSchemas#NAMES
+     */
+    static FullTextLayout getLayout(final String name) {
+        Objects.requireNonNull(name, "name is null");
+        for (final var category : FullTextCategory.values()) {
+            if (name.equals(FullTextSectionUtils.getResourceNameForHeadSegments(category))) {
+                return HEAD_LAYOUTS[category.ordinal()];
+            }
+        }
+        final var id = bodyId(name);
+        if (id != -1) {
+            final var index = Arrays.binarySearch(BODY_IDS, id);
+            if (index >= 0) {
+                return BODY_LAYOUTS[index];
+            }
+        }
+        throw new IllegalArgumentException("no layout compiled for '" + name + "'");
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextSectionRegistry() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
@@ -9,7 +9,33 @@ import java.util.Scanner;
 
 final class FullTextSectionUtils {
 
+    /**
+     * The prefix of the type of fixed-point decimal segments; e.g., {@code 9V2 15 외화금액} for thirteen integer digits
+     * and two decimal places.
+     */
+    static final String TYPE_PREFIX_9V = "9V";
+
+    static final String SUFFIX_HEAD_SEGMENTS = ".head.segments";
+
+    static final String SUFFIX_BODY_SEGMENTS = ".body.segments";
+
+    /**
+     * Loads segments of specified resource name. Segments compiled, at build time, into {@link FullTextSchemas} are
+     * returned as they are; the resource is parsed only when it's not compiled.
+     *
+     * @param name the resource name.
+     * @return a list of segments.
+     */
     private static List<FullTextSegment> loadSegments(final String name) {
+        assert name != null && !name.isBlank();
+        final var compiled = FullTextSchemas.getSegments(name);
+        if (compiled != null) {
+            return compiled;
+        }
+        return parseSegments(name);
+    }
+
+    static List<FullTextSegment> parseSegments(final String name) {
         assert name != null && !name.isBlank();
         final var segments = new ArrayList<FullTextSegment>();
         try (final var resource = FullTextSectionUtils.class.getResourceAsStream(name)) {
@@ -21,12 +47,7 @@ final class FullTextSectionUtils {
                     final var type = s.next();
                     final var length = s.nextInt();
                     final var tag = s.nextLine();
-                    final FullTextSegment segment;
-                    if ("X".equals(type)) {
-                        segment = FullTextSegment.newInstanceOfX(offset, length, tag);
-                    } else {
-                        segment = FullTextSegment.newInstanceOf9(offset, length, tag);
-                    }
+                    final var segment = FullTextSegment.newInstance(type, offset, length, tag);
                     segments.add(segment);
                     offset += segment.getLength();
                 }
@@ -39,7 +60,7 @@ final class FullTextSectionUtils {
 
     // ------------------------------------------------------------------------------------------------------------ head
     static String getResourceNameForHeadSegments(final FullTextCategory category) {
-        return category.name() + ".head.segments";
+        return category.name() + SUFFIX_HEAD_SEGMENTS;
     }
 
     static List<FullTextSegment> loadHeadSegments(final FullTextCategory category) {
@@ -51,7 +72,7 @@ final class FullTextSectionUtils {
     // ------------------------------------------------------------------------------------------------------------ body
     static String getResourceNameForBodySegments(final FullTextCategory category, final String textCode,
                                                  final String taskCode) {
-        return category.name() + textCode + "_" + taskCode + ".body.segments";
+        return category.name() + textCode + "_" + taskCode + SUFFIX_BODY_SEGMENTS;
     }
 
     static List<FullTextSegment> loadBodySegments(final FullTextCategory category, final String textCode,
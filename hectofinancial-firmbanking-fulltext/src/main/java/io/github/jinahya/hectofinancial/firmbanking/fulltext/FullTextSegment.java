@@ -6,11 +6,63 @@ import java.util.Objects;
 class FullTextSegment {
 
     // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Creates a new segment of specified type, as it's written in resources; e.g., {@code X}, {@code 9}, or
+     * {@code 9V2}.
+     *
+     * @param type   the type of the segment.
+     * @param offset the offset of the segment.
+     * @param length the length of the segment.
+     * @param tag    the tag of the segment.
+     * @return a new segment of {@code type}.
+     * @see FullTextSectionUtils#TYPE_PREFIX_9V
+     */
+    static FullTextSegment newInstance(final String type, final int offset, final int length, final String tag) {
+        Objects.requireNonNull(type, "type is null");
+        if ("X".equals(type)) {
+            return newInstanceOfX(offset, length, tag);
+        }
+        if (type.startsWith(FullTextSectionUtils.TYPE_PREFIX_9V)) {
+            final var scale = Integer.parseInt(type.substring(FullTextSectionUtils.TYPE_PREFIX_9V.length()));
+            return newInstanceOf9V(offset, length, scale, tag);
+        }
+        return newInstanceOf9(offset, length, tag);
+    }
+
+    /**
+     * Creates a new numeric segment. A segment longer than {@value FullTextSegmentCodec9#MAX_INT_LENGTH} digits gets a
+     * codec of {@link Long}; e.g., {@code 9(13)} amounts.
+     *
+     * @param offset the offset of the segment.
+     * @param length the length of the segment.
+     * @param tag    the tag of the segment.
+     * @return a new numeric segment.
+     */
     static FullTextSegment newInstanceOf9(final int offset, final int length, final String tag) {
+        if (length > FullTextSegmentCodec9.MAX_INT_LENGTH) {
+            return new FullTextSegment(offset, length, FullTextSegmentCodec.of9Long(), tag);
+        }
         return new FullTextSegment(offset, length, FullTextSegmentCodec.of9(), tag) {
         };
     }
 
+    /**
+     * Creates a new fixed-point decimal segment.
+     *
+     * @param offset the offset of the segment.
+     * @param length the length of the segment; the total number of digits including decimal places.
+     * @param scale  the number of implied decimal places.
+     * @param tag    the tag of the segment.
+     * @return a new fixed-point decimal segment.
+     */
+    static FullTextSegment newInstanceOf9V(final int offset, final int length, final int scale, final String tag) {
+        if (scale > length) {
+            throw new IllegalArgumentException("scale(" + scale + ") > length(" + length + ")");
+        }
+        return new FullTextSegment(offset, length, FullTextSegmentCodec.of9V(scale), tag);
+    }
+
     static FullTextSegment newInstanceOfX(final int offset, final int length, final String tag) {
         return new FullTextSegment(offset, length, FullTextSegmentCodec.ofX(), tag);
     }
@@ -63,17 +115,26 @@ class FullTextSegment {
     // -----------------------------------------------------------------------------------------------------------------
     <V> V getValue(final ByteBuffer data) {
         assert data != null;
-        final var dst = new byte[length];
-        data.get(offset, dst);
         @SuppressWarnings({"unchecked"})
-        final var decoded = (V) codec.decode(dst);
+        final var decoded = (V) codec.decode(data, offset, length);
         return decoded;
     }
 
     void setValue(final ByteBuffer data, final Object value) {
         assert data != null;
-        final var encoded = codec.encode(value, length);
-        data.put(offset, encoded);
+        codec.encode(value, data, offset, length);
+    }
+
+    /**
+     * Returns the number of implied decimal places of this segment.
+     *
+     * @return the number of implied decimal places; {@code 0} for a non-decimal segment.
+     */
+    int getScale() {
+        if (codec instanceof FullTextSegmentCodec9V v) {
+            return v.getScale();
+        }
+        return 0;
     }
 
     // ---------------------------------------------------------------------------------------------------------- offset
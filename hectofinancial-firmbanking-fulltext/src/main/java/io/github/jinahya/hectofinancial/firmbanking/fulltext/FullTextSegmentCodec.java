@@ -1,12 +1,92 @@
 package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 abstract class FullTextSegmentCodec<V> {
 
+    static final byte SPACE = 0x20;
+
+    // a source of bulk puts of spaces into buffers not backed by an array; e.g., direct buffers
+    private static final byte[] SPACES = new byte[512];
+
+    static {
+        Arrays.fill(SPACES, SPACE);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Checks whether specified region of specified buffer contains only spaces.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     * @return {@code true} when the region is blank; {@code false} otherwise.
+     */
+    static boolean isBlank(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            if (data.get(i) != SPACE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether specified region of specified buffer contains only ASCII digits.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     * @return {@code true} when the region contains only digits; {@code false} otherwise.
+     */
+    static boolean isAllDigits(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            final var b = data.get(i);
+            if (b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fills specified region of specified buffer with spaces.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     */
+    static void fill(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        if (data.hasArray()) {
+            final var from = data.arrayOffset() + offset;
+            Arrays.fill(data.array(), from, from + length, SPACE);
+            return;
+        }
+        for (int i = 0, n; i < length; i += n) {
+            n = Math.min(length - i, SPACES.length);
+            data.put(offset + i, SPACES, 0, n);
+        }
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     static FullTextSegmentCodec<Integer> of9() {
         return new FullTextSegmentCodec9();
     }
 
+    static FullTextSegmentCodec<Long> of9Long() {
+        return new FullTextSegmentCodec9Long();
+    }
+
+    static FullTextSegmentCodec<BigDecimal> of9V(final int scale) {
+        return new FullTextSegmentCodec9V(scale);
+    }
+
     static FullTextSegmentCodec<String> ofX() {
         return new FullTextSegmentCodecX();
     }
@@ -34,4 +114,37 @@ abstract class FullTextSegmentCodec<V> {
      * @return decoded value of {@code encoded}.
      */
     abstract V decode(byte[] encoded);
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Encodes specified value directly into specified region of specified buffer.
+     *
+     * @param decoded the value to encode.
+     * @param data    the buffer to which the encoded value is written.
+     * @param offset  the offset of the target segment in {@code data}.
+     * @param length  the length of the target segment.
+     * @implSpec default implementation {@link #encode(Object, int) encodes} {@code decoded} into a new array and
+     * copies it into {@code data}.
+     */
+    void encode(final Object decoded, final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        data.put(offset, encode(decoded, length));
+    }
+
+    /**
+     * Decodes a value directly from specified region of specified buffer.
+     *
+     * @param data   the buffer from which the encoded value is read.
+     * @param offset the offset of the source segment in {@code data}.
+     * @param length the length of the source segment.
+     * @return decoded value of the region.
+     * @implSpec default implementation copies the region into a new array and {@link #decode(byte[]) decodes} it.
+     */
+    V decode(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        final var encoded = new byte[length];
+        data.get(offset, encoded);
+        return decode(encoded);
+    }
 }
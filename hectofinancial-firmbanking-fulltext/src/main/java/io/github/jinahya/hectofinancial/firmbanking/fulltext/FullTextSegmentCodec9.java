@@ -1,16 +1,236 @@
 package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.chrono.IsoChronology;
+import java.time.temporal.ChronoField;
 import java.util.Arrays;
 import java.util.Objects;
 
+/**
+ * A codec for numeric segments; e.g., {@code 9(3)} codes, {@code 9(8)} dates, and {@code 9(6)} times.
+ * <p>
+ * Values are unsigned; a segment consists of only zero-padded ASCII digits, with neither a sign nor a minus. So
+ * encoding a negative value fails with an {@link IllegalArgumentException}, and a segment with a {@code +} or a
+ * {@code -} decodes to {@code null}, as does any other non-digit. Signed values are expressed with separate sign
+ * segments. A decoded value should be an integral {@link Number} in the range of {@code int}, or a string of digits;
+ * any other value, e.g., {@code 1.5} or {@code 1L << 32}, fails with an {@link IllegalArgumentException} instead of
+ * being truncated.
+ *
+ * @see FullTextSection#getSignedLong(int, int)
+ */
 class FullTextSegmentCodec9
         extends FullTextSegmentCodec<Integer> {
 
     static final Charset CHARSET = StandardCharsets.US_ASCII;
 
-    private static final int RADIX = 10;
+    static final int RADIX = 10;
+
+    /**
+     * The maximum length of a segment whose every value fits in an {@code int}.
+     */
+    static final int MAX_INT_LENGTH = 9;
+
+    private static final byte ZERO = '0';
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Encodes specified non-negative value, as zero-padded ASCII digits, directly into specified region of specified
+     * buffer.
+     *
+     * @param data   the buffer to which the digits are written.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     * @param value  the value to encode.
+     * @throws IllegalArgumentException when {@code value} is negative or has more digits than {@code length}.
+     * @see #encodeLong(ByteBuffer, int, int, long)
+     */
+    static void encodeInt(final ByteBuffer data, final int offset, final int length, final int value) {
+        encodeLong(data, offset, length, value);
+    }
+
+    /**
+     * Decodes an {@code int} value from zero-padded ASCII digits in specified region of specified buffer. Leading and
+     * trailing spaces are ignored.
+     *
+     * @param data   the buffer from which the digits are read.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     * @return the decoded value; {@code 0} when the region is blank.
+     * @throws NumberFormatException when the region contains a non-digit or the value overflows an {@code int}.
+     * @see #decodeLong(ByteBuffer, int, int)
+     */
+    static int decodeInt(final ByteBuffer data, final int offset, final int length) {
+        final var value = decodeLong(data, offset, length);
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("int overflow: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Encodes specified non-negative value, as zero-padded ASCII digits, directly into specified region of specified
+     * buffer.
+     *
+     * @param data   the buffer to which the digits are written.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     * @param value  the value to encode.
+     * @throws IllegalArgumentException when {@code value} is negative or has more digits than {@code length}.
+     */
+    static void encodeLong(final ByteBuffer data, final int offset, final int length, final long value) {
+        assert data != null;
+        assert length > 0;
+        if (value < 0L) {
+            throw new IllegalArgumentException("value(" + value + ") is negative");
+        }
+        if (digits(value) > length) {
+            throw new IllegalArgumentException("value(" + value + ") doesn't fit in length(" + length + ")");
+        }
+        var v = value;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            data.put(i, (byte) (ZERO + v % RADIX));
+            v /= RADIX;
+        }
+    }
+
+    /**
+     * Decodes a {@code long} value from zero-padded ASCII digits in specified region of specified buffer. Leading and
+     * trailing spaces are ignored.
+     *
+     * @param data   the buffer from which the digits are read.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     * @return the decoded value; {@code 0L} when the region is blank.
+     * @throws NumberFormatException when the region contains a non-digit or the value overflows a {@code long}.
+     */
+    static long decodeLong(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        assert length > 0;
+        var start = offset;
+        var end = offset + length;
+        while (start < end && data.get(start) == SPACE) {
+            start++;
+        }
+        while (end > start && data.get(end - 1) == SPACE) {
+            end--;
+        }
+        var value = 0L;
+        for (int i = start; i < end; i++) {
+            final var digit = data.get(i) - ZERO;
+            if (digit < 0 || digit >= RADIX) {
+                throw new NumberFormatException("not a digit at " + i + ": " + data.get(i));
+            }
+            if (value > (Long.MAX_VALUE - digit) / RADIX) {
+                throw new NumberFormatException("long overflow at " + i);
+            }
+            value = value * RADIX + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of decimal digits of specified non-negative value.
+     *
+     * @param value the value.
+     * @return the number of decimal digits of {@code value}.
+     */
+    static int digits(final long value) {
+        assert value >= 0L;
+        var digits = 1;
+        for (var v = value / RADIX; v > 0L; v /= RADIX) {
+            digits++;
+        }
+        return digits;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Converts specified {@code uuuuMMdd} value to an epoch day, with plain arithmetic.
+     *
+     * @param packed the {@code uuuuMMdd} value.
+     * @return the epoch day of {@code packed}.
+     * @throws DateTimeException when {@code packed} is not a valid date.
+     * @see java.time.LocalDate#toEpochDay()
+     */
+    static long packedDateToEpochDay(final int packed) {
+        final var year = ChronoField.YEAR.checkValidIntValue(packed / 10000);
+        final var month = ChronoField.MONTH_OF_YEAR.checkValidIntValue(packed / 100 % 100);
+        final var day = ChronoField.DAY_OF_MONTH.checkValidIntValue(packed % 100);
+        final var lengthOfMonth = switch (month) {
+            case 2 -> IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+        if (day > lengthOfMonth) {
+            throw new DateTimeException("invalid date: " + packed);
+        }
+        // http://howardhinnant.github.io/date_algorithms.html#days_from_civil
+        final long y = month <= 2 ? year - 1 : year;
+        final var era = (y >= 0 ? y : y - 399) / 400;
+        final var yoe = y - era * 400;
+        final var doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final var doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    /**
+     * Converts specified epoch day to a {@code uuuuMMdd} value, with plain arithmetic.
+     *
+     * @param epochDay the epoch day.
+     * @return the {@code uuuuMMdd} value of {@code epochDay}.
+     * @throws DateTimeException when the year of {@code epochDay} is negative.
+     * @see java.time.LocalDate#ofEpochDay(long)
+     */
+    static int epochDayToPackedDate(final long epochDay) {
+        // http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        final var z = epochDay + 719468;
+        final var era = (z >= 0 ? z : z - 146096) / 146097;
+        final var doe = z - era * 146097;
+        final var yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        final var doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final var mp = (5 * doy + 2) / 153;
+        final var day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        final var month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        final var year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            throw new DateTimeException("year(" + year + ") of epochDay(" + epochDay + ") is out of range");
+        }
+        return (int) year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Converts specified {@code HHmmss} value to a second of day, with plain arithmetic.
+     *
+     * @param packed the {@code HHmmss} value.
+     * @return the second of day of {@code packed}.
+     * @throws DateTimeException when {@code packed} is not a valid time.
+     * @see java.time.LocalTime#toSecondOfDay()
+     */
+    static int packedTimeToSecondOfDay(final int packed) {
+        final var hour = ChronoField.HOUR_OF_DAY.checkValidIntValue(packed / 10000);
+        final var minute = ChronoField.MINUTE_OF_HOUR.checkValidIntValue(packed / 100 % 100);
+        final var second = ChronoField.SECOND_OF_MINUTE.checkValidIntValue(packed % 100);
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * Converts specified second of day to a {@code HHmmss} value, with plain arithmetic.
+     *
+     * @param secondOfDay the second of day.
+     * @return the {@code HHmmss} value of {@code secondOfDay}.
+     * @throws DateTimeException when {@code secondOfDay} is not valid.
+     * @see java.time.LocalTime#ofSecondOfDay(long)
+     */
+    static int secondOfDayToPackedTime(final int secondOfDay) {
+        ChronoField.SECOND_OF_DAY.checkValidIntValue(secondOfDay);
+        return secondOfDay / 3600 * 10000 + secondOfDay / 60 % 60 * 100 + secondOfDay % 60;
+    }
 
     // -----------------------------------------------------------------------------------------------------------------
     FullTextSegmentCodec9() {
@@ -19,12 +239,13 @@ class FullTextSegmentCodec9
 
     // -----------------------------------------------------------------------------------------------------------------
     private byte[] encode_(final int decoded, final int length) {
-        assert decoded >= 0;
         assert length > 0;
-        final var format = String.format("%%1$0%1$dd", length);
-        final var bytes = String.format(format, decoded).getBytes(CHARSET);
-        if (bytes.length > length) {
-            throw new IllegalArgumentException("decoded.bytes.length(" + bytes.length + ") > length(" + length + ")");
+        final var bytes = new byte[length];
+        try {
+            encodeInt(ByteBuffer.wrap(bytes), 0, length, decoded);
+        } catch (final IllegalArgumentException iae) {
+            throw new IllegalArgumentException("invalid decoded value(" + decoded + ") for length(" + length + ")",
+                                               iae);
         }
         return bytes;
     }
@@ -36,30 +257,101 @@ class FullTextSegmentCodec9
         }
         if (decoded == null) {
             final var a = new byte[length];
-            Arrays.fill(a, (byte) 0x20);
+            Arrays.fill(a, SPACE);
             return a;
         }
-        if (decoded instanceof Number i) {
-            return encode_(i.intValue(), length);
-        }
-        try {
-            return encode_(Integer.parseInt(decoded.toString()), length);
-        } catch (final NumberFormatException nfe) {
-            throw new IllegalArgumentException("invalid decoded value: " + decoded);
-        }
+        return encode_(intValue(decoded), length);
     }
 
     @Override
     Integer decode(final byte[] encoded) {
         Objects.requireNonNull(encoded, "encoded is null");
-        final var string = new String(encoded, CHARSET).strip();
-        if (string.isBlank()) {
+        return decode(ByteBuffer.wrap(encoded), 0, encoded.length);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void encode(final Object decoded, final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        if (length <= 0) {
+            throw new IllegalArgumentException("length(" + length + ") is not positive");
+        }
+        if (decoded == null) {
+            fill(data, offset, length);
+            return;
+        }
+        encodeInt(data, offset, length, intValue(decoded));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}; {@code null} when the region is blank or contains a non-digit.
+     * @throws ArithmeticException when the value, of a region longer than {@value #MAX_INT_LENGTH} digits, overflows
+     *                             an {@code int}.
+     */
+    @Override
+    Integer decode(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        if (isBlank(data, offset, length)) {
             return null;
         }
+        final long value;
         try {
-            return Integer.parseInt(string, RADIX);
+            value = decodeLong(data, offset, length);
         } catch (final NumberFormatException nfe) {
             return null;
         }
+        return intValueExact(value);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns specified decoded value in {@code int}.
+     *
+     * @param value the decoded value.
+     * @return {@code value} in {@code int}.
+     * @throws ArithmeticException when {@code value} overflows an {@code int}.
+     */
+    static int intValueExact(final long value) {
+        if (value > Integer.MAX_VALUE) {
+            throw new ArithmeticException("value(" + value + ") overflows an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns specified integral number in {@code long}.
+     *
+     * @param n the number.
+     * @return {@code n} in {@code long}.
+     * @throws IllegalArgumentException when {@code n} is not integral, or overflows a {@code long}.
+     */
+    static long longValueExact(final Number n) {
+        if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte) {
+            return n.longValue();
+        }
+        try {
+            return new BigDecimal(n.toString()).longValueExact();
+        } catch (final NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("invalid decoded value: " + n, e);
+        }
+    }
+
+    private static int intValue(final Object decoded) {
+        assert decoded != null;
+        if (decoded instanceof Number n) {
+            final var value = longValueExact(n);
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("invalid decoded value: " + decoded);
+            }
+            return (int) value;
+        }
+        try {
+            return Integer.parseInt(decoded.toString(), RADIX);
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalArgumentException("invalid decoded value: " + decoded);
+        }
     }
 }
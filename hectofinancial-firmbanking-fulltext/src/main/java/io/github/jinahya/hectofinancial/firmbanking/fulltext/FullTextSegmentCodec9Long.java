@@ -0,0 +1,86 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A codec for numeric segments whose values may not fit in an {@code int}; e.g., {@code 9(13)} amounts. Values are
+ * unsigned, as those of {@link FullTextSegmentCodec9}.
+ *
+ * @see FullTextSegmentCodec9
+ */
+class FullTextSegmentCodec9Long
+        extends FullTextSegmentCodec<Long> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    FullTextSegmentCodec9Long() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    byte[] encode(final Object decoded, final int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("length(" + length + ") is not positive");
+        }
+        final var encoded = new byte[length];
+        if (decoded == null) {
+            Arrays.fill(encoded, SPACE);
+            return encoded;
+        }
+        try {
+            FullTextSegmentCodec9.encodeLong(ByteBuffer.wrap(encoded), 0, length, longValue(decoded));
+        } catch (final IllegalArgumentException iae) {
+            throw new IllegalArgumentException("invalid decoded value(" + decoded + ") for length(" + length + ")",
+                                               iae);
+        }
+        return encoded;
+    }
+
+    @Override
+    Long decode(final byte[] encoded) {
+        Objects.requireNonNull(encoded, "encoded is null");
+        return decode(ByteBuffer.wrap(encoded), 0, encoded.length);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void encode(final Object decoded, final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        if (length <= 0) {
+            throw new IllegalArgumentException("length(" + length + ") is not positive");
+        }
+        if (decoded == null) {
+            fill(data, offset, length);
+            return;
+        }
+        FullTextSegmentCodec9.encodeLong(data, offset, length, longValue(decoded));
+    }
+
+    @Override
+    Long decode(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        if (isBlank(data, offset, length)) {
+            return null;
+        }
+        try {
+            return FullTextSegmentCodec9.decodeLong(data, offset, length);
+        } catch (final NumberFormatException nfe) {
+            return null;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static long longValue(final Object decoded) {
+        assert decoded != null;
+        if (decoded instanceof Number n) {
+            return FullTextSegmentCodec9.longValueExact(n);
+        }
+        try {
+            return Long.parseLong(decoded.toString(), FullTextSegmentCodec9.RADIX);
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalArgumentException("invalid decoded value: " + decoded);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A codec for fixed-point decimal segments with implied decimal places; e.g., amounts of the
+ * {@link FullTextCategory#F 실시간펌뱅킹(외화)}, which are written as {@code 9V2 15} in resources, for fifteen digits
+ * of which the last two are decimal places.
+ * <p>
+ * The digits of a segment are the unscaled value, and the {@link #getScale() scale} of the codec is the number of the
+ * implied decimal places.
+ *
+ * @see FullTextSegmentCodec9
+ */
+class FullTextSegmentCodec9V
+        extends FullTextSegmentCodec<BigDecimal> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+    FullTextSegmentCodec9V(final int scale) {
+        super();
+        if (scale < 0) {
+            throw new IllegalArgumentException("scale(" + scale + ") is negative");
+        }
+        this.scale = scale;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "scale=" + scale +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    byte[] encode(final Object decoded, final int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("length(" + length + ") is not positive");
+        }
+        final var encoded = new byte[length];
+        if (decoded == null) {
+            Arrays.fill(encoded, SPACE);
+            return encoded;
+        }
+        encode(decoded, ByteBuffer.wrap(encoded), 0, length);
+        return encoded;
+    }
+
+    @Override
+    BigDecimal decode(final byte[] encoded) {
+        Objects.requireNonNull(encoded, "encoded is null");
+        return decode(ByteBuffer.wrap(encoded), 0, encoded.length);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void encode(final Object decoded, final ByteBuffer data, final int offset, final int length) {
+        encodeDecimal(decoded, data, offset, length, scale);
+    }
+
+    @Override
+    BigDecimal decode(final ByteBuffer data, final int offset, final int length) {
+        return decodeDecimal(data, offset, length, scale);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Encodes specified value, in specified scale, into specified region of specified buffer.
+     *
+     * @param decoded the value to encode; {@code null} for spaces.
+     * @param data    the buffer.
+     * @param offset  the offset of the region.
+     * @param length  the length of the region.
+     * @param scale   the number of implied decimal places.
+     */
+    static void encodeDecimal(final Object decoded, final ByteBuffer data, final int offset, final int length,
+                              final int scale) {
+        assert data != null;
+        if (length <= 0) {
+            throw new IllegalArgumentException("length(" + length + ") is not positive");
+        }
+        if (decoded == null) {
+            fill(data, offset, length);
+            return;
+        }
+        FullTextSegmentCodec9.encodeLong(data, offset, length, unscaledValue(decoded, scale));
+    }
+
+    /**
+     * Decodes specified region of specified buffer in specified scale.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region.
+     * @param length the length of the region.
+     * @param scale  the number of implied decimal places.
+     * @return the decoded value; {@code null} when the region is blank or is not a valid number.
+     */
+    static BigDecimal decodeDecimal(final ByteBuffer data, final int offset, final int length, final int scale) {
+        assert data != null;
+        if (isBlank(data, offset, length)) {
+            return null;
+        }
+        try {
+            return BigDecimal.valueOf(FullTextSegmentCodec9.decodeLong(data, offset, length), scale);
+        } catch (final NumberFormatException nfe) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the unscaled value of specified value in specified scale.
+     *
+     * @param decoded the value.
+     * @param scale   the scale.
+     * @return the unscaled value of {@code decoded}.
+     * @throws IllegalArgumentException when {@code decoded} is not a valid number, or it can't be represented in
+     *                                  {@code scale} without rounding.
+     */
+    private static long unscaledValue(final Object decoded, final int scale) {
+        assert decoded != null;
+        final BigDecimal value;
+        try {
+            value = decoded instanceof BigDecimal d ? d : new BigDecimal(decoded.toString());
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalArgumentException("invalid decoded value: " + decoded);
+        }
+        try {
+            return value.setScale(scale).unscaledValue().longValueExact();
+        } catch (final ArithmeticException ae) {
+            throw new IllegalArgumentException("decoded value(" + decoded + ") doesn't fit in scale(" + scale + ")",
+                                               ae);
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- scale
+    int getScale() {
+        return scale;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final int scale;
+}
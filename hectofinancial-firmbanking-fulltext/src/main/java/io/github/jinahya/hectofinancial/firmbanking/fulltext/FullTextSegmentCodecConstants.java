@@ -14,7 +14,7 @@ final class FullTextSegmentCodecConstants {
     // -----------------------------------------------------------------------------------------------------------------
     private static final String PATTERN_TIME = "HHmmss";
 
-    private static final int LENGTH_TIME = PATTERN_TIME.length();
+    static final int LENGTH_TIME = PATTERN_TIME.length();
 
     public static final DateTimeFormatter FORMATTER_TIME = DateTimeFormatter.ofPattern(PATTERN_TIME);
 
@@ -1,54 +1,249 @@
 package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
-import java.util.Arrays;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 class FullTextSegmentCodecX
         extends FullTextSegmentCodec<String> {
 
     static final Charset CHARSET = Charset.forName("euc-kr");
 
+    /**
+     * Per-thread encoders of {@link #CHARSET}; used only for non-ASCII characters.
+     */
+    private static final ThreadLocal<CharsetEncoder> ENCODER = ThreadLocal.withInitial(
+            () -> CHARSET.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+    );
+
+    /**
+     * Per-thread decoders of {@link #CHARSET}; used only for non-ASCII bytes.
+     */
+    private static final ThreadLocal<CharsetDecoder> DECODER = ThreadLocal.withInitial(
+            () -> CHARSET.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+    );
+
+    /**
+     * Per-thread buffers for decoded characters; grows as required.
+     */
+    private static final ThreadLocal<CharBuffer> CHARS = ThreadLocal.withInitial(() -> CharBuffer.allocate(128));
+
+    /**
+     * Per-thread buffers for encoded bytes of non-ASCII characters; grows as required.
+     */
+    private static final ThreadLocal<ByteBuffer> BYTES = ThreadLocal.withInitial(() -> ByteBuffer.allocate(256));
+
+    private static final int ASCII_LIMIT = 0x80;
+
     // -----------------------------------------------------------------------------------------------------------------
-    FullTextSegmentCodecX() {
-        super();
+
+    /**
+     * Returns the length of specified sequence without trailing whitespaces.
+     *
+     * @param decoded the sequence.
+     * @return the length of {@code decoded} without trailing whitespaces.
+     * @see String#stripTrailing()
+     */
+    private static int lengthWithoutTrailingWhitespaces(final CharSequence decoded) {
+        var end = decoded.length();
+        while (end > 0 && Character.isWhitespace(decoded.charAt(end - 1))) {
+            end--;
+        }
+        return end;
     }
 
-    // -----------------------------------------------------------------------------------------------------------------
-    private byte[] encode_(final String decoded, final int length) {
-        assert decoded != null;
+    /**
+     * Returns the length of specified region without trailing (ASCII) whitespaces.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region.
+     * @param length the length of the region.
+     * @return the length of the region without trailing whitespaces.
+     */
+    static int lengthWithoutTrailingWhitespaces(final ByteBuffer data, final int offset, final int length) {
+        var end = offset + length;
+        while (end > offset) {
+            final var b = data.get(end - 1);
+            if (b < 0 || !Character.isWhitespace(b)) {
+                break;
+            }
+            end--;
+        }
+        return end - offset;
+    }
+
+    /**
+     * Encodes specified sequence, with trailing whitespaces stripped, directly into specified region of specified
+     * buffer, and fills the rest of the region with spaces. ASCII characters are copied byte-for-byte; a per-thread
+     * {@link CharsetEncoder} is used only from the first non-ASCII character, into a per-thread scratch buffer.
+     *
+     * @param data    the buffer.
+     * @param offset  the offset of the region in {@code data}.
+     * @param length  the length of the region.
+     * @param decoded the sequence to encode.
+     * @throws IllegalArgumentException when the encoded bytes don't fit in the region; the region is left unchanged
+     *                                  in that case.
+     */
+    static void encodeX(final ByteBuffer data, final int offset, final int length, final CharSequence decoded) {
+        assert data != null;
         assert length > 0;
-        final var encoded = new byte[length];
-        {
-            final var bytes = decoded.stripTrailing().getBytes(CHARSET);
-            if (bytes.length > encoded.length) {
+        assert decoded != null;
+        final var end = lengthWithoutTrailingWhitespaces(decoded);
+        var ascii = 0;
+        while (ascii < end && decoded.charAt(ascii) < ASCII_LIMIT) {
+            ascii++;
+        }
+        if (ascii > length) {
+            throw new IllegalArgumentException(
+                    "decoded.bytes.length(>" + length + ") > encoded.length(" + length + ")"
+            );
+        }
+        // encodes the rest, if any, before touching the region
+        ByteBuffer rest = null;
+        if (ascii < end) {
+            rest = bytes(length - ascii);
+            final var encoder = ENCODER.get().reset();
+            CoderResult result = encoder.encode(CharBuffer.wrap(decoded, ascii, end), rest, true);
+            if (!result.isOverflow()) {
+                result = encoder.flush(rest);
+            }
+            if (result.isOverflow()) {
                 throw new IllegalArgumentException(
-                        "decoded.bytes.length(" + bytes.length + ") > encoded.length(" + encoded.length + ")"
+                        "decoded.bytes.length(>" + length + ") > encoded.length(" + length + ")"
                 );
             }
-            System.arraycopy(bytes, 0, encoded, 0, bytes.length);
-            Arrays.fill(encoded, bytes.length, encoded.length, (byte) 0x20);
         }
-        return encoded;
+        for (int i = 0; i < ascii; i++) {
+            data.put(offset + i, (byte) decoded.charAt(i));
+        }
+        var written = ascii;
+        if (rest != null) {
+            data.put(offset + written, rest, 0, rest.position());
+            written += rest.position();
+        }
+        fill(data, offset + written, length - written);
+    }
+
+    /**
+     * Decodes specified region of specified buffer, with trailing whitespaces stripped. An ASCII-only region is
+     * decoded without any intermediate object; a per-thread {@link CharsetDecoder} is used otherwise.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     * @return the decoded value; {@code null} when the region is blank.
+     */
+    static String decodeX(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        final var stripped = lengthWithoutTrailingWhitespaces(data, offset, length);
+        if (stripped == 0) {
+            return null;
+        }
+        if (isAscii(data, offset, stripped)) {
+            if (data.hasArray()) {
+                return new String(data.array(), data.arrayOffset() + offset, stripped, StandardCharsets.US_ASCII);
+            }
+            final var chars = chars(stripped);
+            for (int i = 0; i < stripped; i++) {
+                chars.put(i, (char) data.get(offset + i));
+            }
+            return chars.limit(stripped).toString();
+        }
+        return decodeX(data, offset, stripped, chars(stripped)).flip().toString();
+    }
+
+    /**
+     * Decodes specified region of specified buffer into specified char buffer, using a per-thread
+     * {@link CharsetDecoder}.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region in {@code data}.
+     * @param length the length of the region.
+     * @param out    the char buffer whose remaining is not less than {@code length}.
+     * @return given {@code out}.
+     */
+    static CharBuffer decodeX(final ByteBuffer data, final int offset, final int length, final CharBuffer out) {
+        assert data != null;
+        assert out != null;
+        assert out.remaining() >= length; // never produces more chars than bytes
+        final var decoder = DECODER.get().reset();
+        decoder.decode(data.slice(offset, length), out, true);
+        decoder.flush(out);
+        return out;
+    }
+
+    static boolean isAscii(final ByteBuffer data, final int offset, final int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            if (data.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer bytes(final int limit) {
+        var bytes = BYTES.get();
+        if (bytes.capacity() < limit) {
+            bytes = ByteBuffer.allocate(limit);
+            BYTES.set(bytes);
+        }
+        return bytes.clear().limit(limit);
+    }
+
+    private static CharBuffer chars(final int capacity) {
+        var chars = CHARS.get();
+        if (chars.capacity() < capacity) {
+            chars = CharBuffer.allocate(capacity);
+            CHARS.set(chars);
+        }
+        return chars.clear();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    FullTextSegmentCodecX() {
+        super();
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
     @Override
     byte[] encode(final Object decoded, final int length) {
         assert length > 0;
-        if (decoded == null) {
-            final var a = new byte[length];
-            Arrays.fill(a, (byte) 0x20);
-            return a;
-        }
-        return encode_(decoded.toString(), length);
+        final var encoded = new byte[length];
+        encode(decoded, ByteBuffer.wrap(encoded), 0, length);
+        return encoded;
     }
 
     @Override
     String decode(final byte[] encoded) {
         assert encoded != null;
-        final var decoded = new String(encoded, CHARSET).stripTrailing();
-        if (decoded.isBlank()) {
-            return null;
+        return decode(ByteBuffer.wrap(encoded), 0, encoded.length);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    void encode(final Object decoded, final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        assert length > 0;
+        if (decoded == null) {
+            fill(data, offset, length);
+            return;
         }
-        return decoded;
+        encodeX(data, offset, length,
+                decoded instanceof CharSequence s ? s : Objects.toString(decoded));
+    }
+
+    @Override
+    String decode(final ByteBuffer data, final int offset, final int length) {
+        return decodeX(data, offset, length);
     }
 }
@@ -0,0 +1,97 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.util.Objects;
+
+/**
+ * A typed handle of a segment, which is resolved once by its name, and is used for all sections of the same type.
+ * Accessing a segment with a handle costs the same as with its index.
+ * {@snippet lang = java:
+ * static final FullTextSegmentHandle<Long> AMOUNT = FullText.newInstance(FullTextCategory.D, "2000", "100")
+ *         .applyBodySection(s -> s.getHandle("출금금액", Long.class));
+ *
+ * text.acceptBodySection(s -> AMOUNT.set(s, 10000L));
+ *}
+ *
+ * @param <T> value type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullTextSection#getHandle(String, Class)
+ */
+public final class FullTextSegmentHandle<T> {
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    FullTextSegmentHandle(final FullTextLayout layout, final int slot, final Class<T> type) {
+        super();
+        this.layout = Objects.requireNonNull(layout, "layout is null");
+        this.slot = slot;
+        this.type = Objects.requireNonNull(type, "type is null");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "segment=" + layout.segment(slot) +
+                ",type=" + type +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private FullTextSection requireSameLayout(final FullTextSection section) {
+        Objects.requireNonNull(section, "section is null");
+        if (section.getLayout() != layout) {
+            throw new IllegalArgumentException("section(" + section + ") is not of the layout of " + this);
+        }
+        return section;
+    }
+
+    /**
+     * Returns the value of this handle's segment of specified section.
+     *
+     * @param section the section.
+     * @return the value of the segment; {@code null} when the segment is blank or is not valid.
+     * @throws IllegalArgumentException when {@code section} is not of the type this handle was resolved from.
+     */
+    public T get(final FullTextSection section) {
+        return type.cast(layout.decode(requireSameLayout(section).getBuffer(), slot));
+    }
+
+    /**
+     * Replaces the value of this handle's segment of specified section with specified value.
+     *
+     * @param section the section.
+     * @param value   new value for the segment; {@code null} for spaces.
+     * @throws IllegalArgumentException when {@code section} is not of the type this handle was resolved from.
+     */
+    public void set(final FullTextSection section, final T value) {
+        layout.encode(requireSameLayout(section).getBuffer(), slot, value);
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- index
+
+    /**
+     * Returns the index of this handle's segment.
+     *
+     * @return the index of the segment; starts from {@code 1}.
+     */
+    public int getIndex() {
+        return slot + 1;
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ type
+
+    /**
+     * Returns the type of values of this handle.
+     *
+     * @return the type of values of this handle.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final FullTextLayout layout;
+
+    private final int slot;
+
+    private final Class<T> type;
+}
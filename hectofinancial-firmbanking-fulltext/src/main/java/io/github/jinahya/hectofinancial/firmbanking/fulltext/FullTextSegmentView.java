@@ -0,0 +1,175 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * A reusable, read-only {@link CharSequence} view over a segment of a {@link FullTextSection}.
+ * <p>
+ * A view of an ASCII-only segment reads characters directly from the section's buffer; a view of a segment with
+ * {@code EUC-KR} characters decodes them into its own reusable char buffer. In both cases, no {@link String} is created
+ * unless {@link #toString()} or {@link #subSequence(int, int)} is invoked. Trailing whitespaces of the segment are not
+ * part of the view, just as those of {@link FullTextSection#getValue(int)}.
+ * <p>
+ * An instance is not thread-safe, and its content is valid only until the segment is modified or the view is
+ * {@link FullTextSection#getView(int, FullTextSegmentView) reset} to another segment.
+ * {@snippet lang = java:
+ * final var view = new FullTextSegmentView(); // reused for every text
+ * text.acceptBodySection(s -> {
+ *     if (s.getView(1, view).contentEquals(account)) { // 1 거래계좌번호
+ *         // ...
+ *     }
+ * });
+ *}
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FullTextSection#getView(int, FullTextSegmentView)
+ */
+public final class FullTextSegmentView
+        implements CharSequence {
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+
+    /**
+     * Creates a new, empty, instance.
+     */
+    public FullTextSegmentView() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a new string of this view's content.
+     *
+     * @return a new string of this view's content.
+     */
+    @Override
+    public String toString() {
+        if (chars != null) {
+            return chars.toString();
+        }
+        final var builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(charAt(i));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Indicates whether specified object is a view of the same content.
+     *
+     * @param obj the object to compare.
+     * @return {@code true} when {@code obj} is a view of the same content; {@code false} otherwise.
+     * @see #contentEquals(CharSequence)
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof FullTextSegmentView that)) {
+            return false;
+        }
+        return contentEquals(that);
+    }
+
+    /**
+     * Returns a hash code of this view's content, which is equal to the {@link String#hashCode() hash code} of the
+     * {@link #toString() string} of the same content.
+     *
+     * @return a hash code of this view's content.
+     */
+    @Override
+    public int hashCode() {
+        var h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + charAt(i);
+        }
+        return h;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        Objects.checkIndex(index, length);
+        if (chars != null) {
+            return chars.get(index);
+        }
+        return (char) data.get(offset + index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return toString().substring(start, end);
+    }
+
+    /**
+     * Indicates whether the content of this view is equal to specified character sequence.
+     *
+     * @param cs the character sequence to compare.
+     * @return {@code true} when {@code cs} has the same content; {@code false} otherwise.
+     * @see String#contentEquals(CharSequence)
+     */
+    public boolean contentEquals(final CharSequence cs) {
+        if (cs == null || cs.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (charAt(i) != cs.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Resets this view to specified region of specified buffer.
+     *
+     * @param data   the buffer.
+     * @param offset the offset of the region.
+     * @param length the length of the region.
+     * @return this view.
+     */
+    FullTextSegmentView set(final ByteBuffer data, final int offset, final int length) {
+        assert data != null;
+        final var stripped = FullTextSegmentCodecX.lengthWithoutTrailingWhitespaces(data, offset, length);
+        if (FullTextSegmentCodecX.isAscii(data, offset, stripped)) {
+            this.data = data;
+            this.offset = offset;
+            this.length = stripped;
+            chars = null;
+            return this;
+        }
+        if (buffer == null || buffer.capacity() < stripped) {
+            buffer = CharBuffer.allocate(stripped);
+        }
+        chars = FullTextSegmentCodecX.decodeX(data, offset, stripped, buffer.clear()).flip();
+        this.data = null;
+        this.offset = 0;
+        this.length = chars.remaining();
+        return this;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private ByteBuffer data;
+
+    private int offset;
+
+    private int length;
+
+    // the decoded characters of a non-ASCII segment; null for an ASCII-only segment
+    private CharBuffer chars;
+
+    // reusable buffer for decoding non-ASCII segments
+    private CharBuffer buffer;
+}
@@ -0,0 +1,120 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of a pre-populated {@link FullText}, from which new texts are created with a single bulk copy.
+ * {@snippet lang = java:
+ * final var prototype = FullText.newInstance(FullTextCategory.D, "2000", "100");
+ * prototype.acceptHeadSection(s -> {
+ *     s.setValue(1, "...");  // 1 식별코드
+ *     s.setValue(2, "...");  // 2 업체번호
+ *     s.setValue(3, 2);      // 3 은행코드
+ *     s.setValue(6, 1);      // 6 송신회수
+ * });
+ * final var template = FullTextTemplate.of(prototype);
+ *
+ * final var text = template.newInstance();
+ * text.setHeadDateTimeAsNow();
+ * text.acceptBodySection(s -> s.setValue(4, amount)); // 4 출금금액
+ *}
+ * An instance of this class is thread-safe. The {@link FullText#setCipher(FullTextCipher) cipher} of a prototype is
+ * not captured.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class FullTextTemplate {
+
+    // ------------------------------------------------------------------------------------------ STATIC_FACTORY_METHODS
+
+    /**
+     * Captures the current data of specified text as a new template. Later changes to the {@code prototype} don't
+     * affect the result.
+     *
+     * @param prototype the text to capture.
+     * @return a new template of {@code prototype}'s current data.
+     */
+    public static FullTextTemplate of(final FullText prototype) {
+        Objects.requireNonNull(prototype, "prototype is null");
+        final var raw = prototype.getRawData();
+        final var bytes = new byte[raw.remaining()];
+        raw.get(bytes);
+        return new FullTextTemplate(prototype.getCategory(), prototype.getHeadLayout(), prototype.getBodyLayout(),
+                                    bytes);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- CONSTRUCTORS
+    private FullTextTemplate(final FullTextCategory category, final FullTextLayout headLayout,
+                             final FullTextLayout bodyLayout, final byte[] bytes) {
+        super();
+        this.category = category;
+        this.headLayout = headLayout;
+        this.bodyLayout = bodyLayout;
+        this.bytes = bytes;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return super.toString() + '{' +
+                "category=" + category +
+                ",length=" + bytes.length +
+                '}';
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new text of this template.
+     *
+     * @return a new text whose data is a copy of this template.
+     */
+    public FullText newInstance() {
+        return newInstance(FullTextAllocator.heap());
+    }
+
+    /**
+     * Creates a new text of this template, backed by a buffer allocated by specified allocator.
+     *
+     * @param allocator the allocator of the buffer backing the result.
+     * @return a new text whose data is a copy of this template.
+     */
+    public FullText newInstance(final FullTextAllocator allocator) {
+        Objects.requireNonNull(allocator, "allocator is null");
+        final var data = allocator.allocate(bytes.length).put(0, bytes);
+        return FullText.newInstance(category, headLayout, bodyLayout, data);
+    }
+
+    /**
+     * Overwrites the whole data of specified text, e.g., one leased from a {@link FullTextPool}, with this template.
+     *
+     * @param text the text to overwrite; should be of the same type as this template.
+     * @throws IllegalArgumentException when {@code text} is not of the same type as this template.
+     */
+    public void applyTo(final FullText text) {
+        Objects.requireNonNull(text, "text is null");
+        if (text.getCategory() != category || text.getHeadLayout() != headLayout
+            || text.getBodyLayout() != bodyLayout) {
+            throw new IllegalArgumentException("text(" + text + ") is not of " + this);
+        }
+        text.getRawData().put(0, bytes);
+    }
+
+    /**
+     * Returns the length of this template.
+     *
+     * @return the length of this template.
+     */
+    public int getLength() {
+        return bytes.length;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private final FullTextCategory category;
+
+    private final FullTextLayout headLayout;
+
+    private final FullTextLayout bodyLayout;
+
+    private final byte[] bytes;
+}
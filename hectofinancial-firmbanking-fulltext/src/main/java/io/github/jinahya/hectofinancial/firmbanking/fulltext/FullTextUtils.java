@@ -3,6 +3,7 @@ package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
@@ -12,16 +13,92 @@ final class FullTextUtils {
     // -----------------------------------------------------------------------------------------------------------------
     static final int LENGTH_BYTES = 4;
 
-    private static final FullTextSegmentCodec<Integer> LENGTH_CODEC = FullTextSegmentCodec.of9();
+    private static final int LENGTH_MAX = 9999;
 
+    /**
+     * Per-thread buffers for length bytes.
+     */
+    private static final ThreadLocal<ByteBuffer> LENGTH_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(LENGTH_BYTES));
+
+    /**
+     * Encodes specified length, as {@value #LENGTH_BYTES} ASCII digits, into specified buffer.
+     *
+     * @param length the length to encode.
+     * @param buffer the buffer whose capacity is {@value #LENGTH_BYTES}.
+     * @return given {@code buffer}, cleared.
+     */
+    static ByteBuffer encodeLength(final int length, final ByteBuffer buffer) {
+        if (length < 0 || length > LENGTH_MAX) {
+            throw new IllegalArgumentException("length(" + length + ") is not between 0 and " + LENGTH_MAX);
+        }
+        var value = length;
+        for (int i = LENGTH_BYTES - 1; i >= 0; i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        return buffer.clear();
+    }
+
+    /**
+     * Decodes a length from {@value #LENGTH_BYTES} ASCII digits of specified buffer.
+     *
+     * @param buffer the buffer whose capacity is {@value #LENGTH_BYTES}.
+     * @return the decoded length.
+     * @throws IllegalArgumentException when any of the bytes is not a digit.
+     */
+    static int decodeLength(final ByteBuffer buffer) {
+        var length = 0;
+        for (int i = 0; i < LENGTH_BYTES; i++) {
+            final var b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                throw new IllegalArgumentException("invalid length byte(" + b + ") at " + i);
+            }
+            length = length * 10 + (b - '0');
+        }
+        return length;
+    }
+
+    /**
+     * Returns a new buffer of a frame of specified data; the length bytes followed by the data.
+     *
+     * @param data the data.
+     * @return a new buffer of the frame of {@code data}.
+     */
+    static ByteBuffer encodeFrame(final ByteBuffer data) {
+        Objects.requireNonNull(data, "data is null");
+        final var length = data.remaining();
+        final var frame = ByteBuffer.allocate(LENGTH_BYTES + length);
+        encodeLength(length, frame.slice(0, LENGTH_BYTES));
+        return frame.put(LENGTH_BYTES, data, data.position(), length);
+    }
+
+    /**
+     * Sends specified data, prefixed with its length, to specified channel. When the channel is a
+     * {@link GatheringByteChannel}, both the length bytes and the data are written with a single gathering write, as
+     * long as the channel accepts all of them.
+     *
+     * @param channel the channel.
+     * @param data    the data to send.
+     * @throws IOException if an I/O error occurs.
+     */
     static void sendData(final WritableByteChannel channel, final ByteBuffer data) throws IOException {
         if (!Objects.requireNonNull(channel, "channel is null").isOpen()) {
             throw new IllegalArgumentException("channel is not open");
         }
         Objects.requireNonNull(data, "data is null");
+        final var prefix = encodeLength(data.remaining(), LENGTH_BUFFER.get());
+        if (channel instanceof GatheringByteChannel gathering) {
+            final var srcs = new ByteBuffer[] {prefix, data};
+            while (prefix.hasRemaining() || data.hasRemaining()) {
+                final var bytes = gathering.write(srcs);
+                assert bytes >= 0;
+            }
+            return;
+        }
         // write length
-        for (var b = ByteBuffer.wrap(LENGTH_CODEC.encode(data.remaining(), LENGTH_BYTES)); b.hasRemaining(); ) {
-            final var bytes = channel.write(b);
+        while (prefix.hasRemaining()) {
+            final var bytes = channel.write(prefix);
             assert bytes >= 0;
         }
         // write text
@@ -32,26 +109,46 @@ final class FullTextUtils {
     }
 
     static ByteBuffer receiveData(final ReadableByteChannel channel) throws IOException {
+        return receiveData(channel, null);
+    }
+
+    /**
+     * Receives data from specified channel into a buffer leased from specified pool.
+     *
+     * @param channel the channel.
+     * @param pool    the pool; {@code null} for a new buffer.
+     * @return a buffer of received data, whose {@link ByteBuffer#capacity() capacity} is the length of the data.
+     * @throws IOException if an I/O error occurs.
+     */
+    static ByteBuffer receiveData(final ReadableByteChannel channel, final FullTextBufferPool pool)
+            throws IOException {
         if (!Objects.requireNonNull(channel, "channel is null").isOpen()) {
             throw new IllegalArgumentException("channel is not open");
         }
         // read length
         final int length;
         {
-            final var a = new byte[LENGTH_BYTES];
-            for (final var b = ByteBuffer.wrap(a); b.hasRemaining(); ) {
+            final var b = LENGTH_BUFFER.get().clear();
+            while (b.hasRemaining()) {
                 if (channel.read(b) == -1) {
                     throw new EOFException("unexpected end-of-file while reading length bytes");
                 }
             }
-            length = LENGTH_CODEC.decode(a);
+            length = decodeLength(b);
         }
         // read text
-        final var b = ByteBuffer.allocate(length);
-        while (b.hasRemaining()) {
-            if (channel.read(b) == -1) {
-                throw new EOFException("unexpected end-of-file while reading text bytes");
+        final var b = pool == null ? ByteBuffer.allocate(length) : pool.lease(length);
+        try {
+            while (b.hasRemaining()) {
+                if (channel.read(b) == -1) {
+                    throw new EOFException("unexpected end-of-file while reading text bytes");
+                }
+            }
+        } catch (final IOException ioe) {
+            if (pool != null) {
+                pool.release(b);
             }
+            throw ioe;
         }
         return b;
     }
@@ -0,0 +1,62 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class FullTextAllocatorTest {
+
+    @Test
+    void heap__() {
+        final var buffer = FullTextAllocator.heap().allocate(10);
+        assertThat(buffer.isDirect()).isFalse();
+        assertThat(buffer.capacity()).isEqualTo(10);
+    }
+
+    @Test
+    void direct__() {
+        final var buffer = FullTextAllocator.direct().allocate(10);
+        assertThat(buffer.isDirect()).isTrue();
+        assertThat(buffer.capacity()).isEqualTo(10);
+    }
+
+    @Test
+    void slab__() {
+        assertThatThrownBy(() -> FullTextAllocator.slab(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        final var allocator = FullTextAllocator.slab(16);
+        final var buffer1 = allocator.allocate(10);
+        final var buffer2 = allocator.allocate(10); // from a new slab
+        final var buffer3 = allocator.allocate(32); // larger than a slab
+        assertThat(buffer1.isDirect()).isTrue();
+        assertThat(buffer1.capacity()).isEqualTo(10);
+        assertThat(buffer2.capacity()).isEqualTo(10);
+        assertThat(buffer3.capacity()).isEqualTo(32);
+        buffer1.put(9, (byte) 1);
+        assertThat(buffer2.get(0)).isZero();
+    }
+
+    @Test
+    void newInstance__direct() throws IOException {
+        final var heap = FullText.newInstance(FullTextCategory.D, "2000", "100");
+        final var direct = FullText.newInstance(FullTextCategory.D, "2000", "100", FullTextAllocator.slab(1024));
+        for (final var text : new FullText[] {heap, direct}) {
+            text.setHeadDate(LocalDate.of(2024, 1, 2));
+            text.acceptBodySection(s -> s.setValue(4, 1000L)); // 4 출금금액
+        }
+        assertThat(direct.getDataString()).isEqualTo(heap.getDataString());
+        final var expected = new ByteArrayOutputStream();
+        heap.write(Channels.newChannel(expected));
+        final var actual = new ByteArrayOutputStream();
+        direct.write(Channels.newChannel(actual));
+        assertThat(actual.toByteArray()).isEqualTo(expected.toByteArray());
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class FullTextCipherTest {
+
+    @Test
+    void encrypt__sameAsCipher() {
+        FullTextCipherTestUtils.acceptCipherKeyAndParams(c -> k -> p -> {
+            final var cipher = FullTextCipher.newInstance(c, k, p);
+            final var plain = "0123456789ABCDEF0123".getBytes(StandardCharsets.US_ASCII);
+            try {
+                c.init(Cipher.ENCRYPT_MODE, k, p);
+                final var expected = c.doFinal(plain);
+                for (int i = 0; i < 3; i++) { // no re-initialization between calls
+                    final var encrypted = cipher.encrypt(ByteBuffer.wrap(plain)).flip();
+                    assertThat(encrypted).isEqualTo(ByteBuffer.wrap(expected));
+                    final var decrypted = cipher.decrypt(encrypted).flip();
+                    assertThat(decrypted).isEqualTo(ByteBuffer.wrap(plain));
+                }
+            } catch (final Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Test
+    void newInstance__transformation() {
+        FullTextCipherTestUtils.acceptCipherKeyAndParams(c -> k -> p -> {
+            final var cipher1 = FullTextCipher.newInstance(c, k, p);
+            final var cipher2 = FullTextCipher.newInstance(c.getAlgorithm(), k, p);
+            final var plain = ByteBuffer.wrap("abc".getBytes(StandardCharsets.US_ASCII));
+            assertThat(cipher2.encrypt(plain.duplicate()).flip()).isEqualTo(cipher1.encrypt(plain.duplicate()).flip());
+        });
+    }
+
+    @Test
+    void decrypt__failedThenRecovered() {
+        FullTextCipherTestUtils.acceptCipherKeyAndParams(c -> k -> p -> {
+            final var cipher = FullTextCipher.newInstance(c, k, p);
+            assertThatThrownBy(() -> cipher.decrypt(ByteBuffer.allocate(15)))
+                    .isInstanceOf(RuntimeException.class);
+            final var plain = ByteBuffer.wrap("abc".getBytes(StandardCharsets.US_ASCII));
+            assertThat(cipher.decrypt(cipher.encrypt(plain.duplicate()).flip()).flip()).isEqualTo(plain);
+        });
+    }
+
+    @Test
+    void encrypt__concurrently() throws Exception {
+        final var cipher = FullTextCipherTestUtils.applyFullTextCipher(c -> c);
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            final var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < 8; i++) {
+                final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+                final var value = "TEXT" + i;
+                text.acceptBodySection(s -> s.setValue(1, value)); // 1 예비영역
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 256; j++) {
+                        final var decrypted = cipher.decrypt(cipher.encrypt(text.getRawData()).flip()).flip();
+                        assertThat(decrypted).isEqualTo(text.getRawData());
+                    }
+                    return null;
+                }));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        }
+    }
+}
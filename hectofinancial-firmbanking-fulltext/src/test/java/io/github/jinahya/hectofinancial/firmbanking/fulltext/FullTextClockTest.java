@@ -0,0 +1,41 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+@Slf4j
+class FullTextClockTest {
+
+    @Test
+    void stamp__() {
+        final var zone = ZoneId.of("Asia/Seoul");
+        final var dateTime = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+        final var clock = FullTextClock.of(Clock.fixed(dateTime.atZone(zone).toInstant(), zone));
+        final var data = ByteBuffer.wrap("XXXXXXXXXX-XXXXXXX".getBytes());
+        clock.stamp(data, 0, 11);
+        assertThat(new String(data.array())).isEqualTo("20241231XX-235959X");
+    }
+
+    @EnumSource(FullTextCategory.class)
+    @ParameterizedTest
+    void setHeadDateTimeAsNow__(final FullTextCategory category) {
+        final var dateTime = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        final var clock = FullTextClock.of(Clock.fixed(dateTime.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        final var text = FullText.newInstance(category, "1000", "100");
+        text.setHeadDateTimeAsNow(clock);
+        assertThat(text.getHeadDateTime()).isEqualTo(dateTime);
+    }
+}
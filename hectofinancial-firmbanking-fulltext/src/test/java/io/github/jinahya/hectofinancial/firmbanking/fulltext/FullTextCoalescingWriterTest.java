@@ -0,0 +1,219 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class FullTextCoalescingWriterTest {
+
+    /**
+     * A gathering channel which records written bytes, and the number of writes.
+     */
+    private static final class RecordingChannel
+            implements GatheringByteChannel {
+
+        @Override
+        public synchronized long write(final ByteBuffer[] srcs, final int offset, final int length)
+                throws IOException {
+            if (failing) {
+                throw new IOException("failing");
+            }
+            final var unchecked = failingWith;
+            if (unchecked != null) {
+                failed.countDown();
+                throw unchecked;
+            }
+            writes++;
+            var written = 0L;
+            for (int i = offset; i < offset + length; i++) {
+                while (srcs[i].hasRemaining()) {
+                    baos.write(srcs[i].get());
+                    written++;
+                }
+            }
+            latch.countDown();
+            return written;
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs) throws IOException {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            return (int) write(new ByteBuffer[] {src});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        synchronized int writes() {
+            return writes;
+        }
+
+        synchronized byte[] bytes() {
+            return baos.toByteArray();
+        }
+
+        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        private int writes;
+
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        private volatile boolean failing;
+
+        private volatile RuntimeException failingWith;
+    }
+
+    private static byte[] expected(final FullText text, final int count) throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        for (int i = 0; i < count; i++) {
+            text.write(Channels.newChannel(baos));
+        }
+        return baos.toByteArray();
+    }
+
+    @BeforeEach
+    void createScheduler() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void shutdownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void write__coalescedUntilFlush() throws IOException {
+        final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var channel = new RecordingChannel();
+        final var writer = FullTextCoalescingWriter.newInstance(channel, Integer.MAX_VALUE, Duration.ofHours(1),
+                                                                scheduler);
+        for (int i = 0; i < 10; i++) {
+            writer.write(text);
+        }
+        assertThat(channel.writes()).isZero();
+        writer.close();
+        assertThat(channel.writes()).isEqualTo(1);
+        assertThat(channel.bytes()).isEqualTo(expected(text, 10));
+        assertThatThrownBy(() -> writer.write(text))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void write__flushedBySize() throws IOException {
+        final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var channel = new RecordingChannel();
+        final var frameLength = FullTextUtils.LENGTH_BYTES + text.getLength();
+        final var writer = FullTextCoalescingWriter.newInstance(channel, frameLength * 3, Duration.ofHours(1),
+                                                                scheduler);
+        for (int i = 0; i < 7; i++) {
+            writer.write(text);
+        }
+        assertThat(channel.writes()).isEqualTo(2);
+        writer.flush();
+        assertThat(channel.writes()).isEqualTo(3);
+        assertThat(channel.bytes()).isEqualTo(expected(text, 7));
+    }
+
+    @Test
+    void write__flushedByDelay() throws Exception {
+        final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var channel = new RecordingChannel();
+        final var writer = FullTextCoalescingWriter.newInstance(channel, Integer.MAX_VALUE, Duration.ofMillis(10),
+                                                                scheduler);
+        writer.write(text);
+        writer.write(text);
+        assertThat(channel.latch.await(10L, TimeUnit.SECONDS)).isTrue();
+        assertThat(channel.bytes()).isEqualTo(expected(text, 2));
+    }
+
+    @Test
+    void write__concurrently() throws Exception {
+        final var channel = new RecordingChannel();
+        final var writer = FullTextCoalescingWriter.newInstance(channel, 4096, Duration.ofMillis(1), scheduler);
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            final var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+                    for (int j = 0; j < 100; j++) {
+                        writer.write(text);
+                    }
+                    return null;
+                }));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        }
+        writer.close();
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, null);
+        assertThat(decoder.decode(ByteBuffer.wrap(channel.bytes()), t -> {
+        })).isEqualTo(400);
+        assertThat(channel.writes()).isLessThan(400);
+    }
+
+    @Test
+    void flush__failed() throws IOException {
+        final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var channel = new RecordingChannel();
+        final var writer = FullTextCoalescingWriter.newInstance(channel, Integer.MAX_VALUE, Duration.ofHours(1),
+                                                                scheduler);
+        writer.write(text);
+        channel.failing = true;
+        assertThatThrownBy(writer::flush).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> writer.write(text)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void flush__failedScheduledUnchecked() throws Exception {
+        final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var channel = new RecordingChannel();
+        channel.failingWith = new IllegalStateException("failing");
+        final var writer = FullTextCoalescingWriter.newInstance(channel, Integer.MAX_VALUE, Duration.ofMillis(10),
+                                                                scheduler);
+        writer.write(text);
+        assertThat(channel.failed.await(10L, TimeUnit.SECONDS)).isTrue();
+        // waits for the scheduled flush, which holds the channel until the failure is recorded
+        assertThatThrownBy(writer::flush)
+                .isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> writer.write(text))
+                .isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(writer::close)
+                .isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private ScheduledExecutorService scheduler;
+}
@@ -0,0 +1,224 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class FullTextFrameDecoderTest {
+
+    /**
+     * A non-blocking-like channel which provides at most specified number of bytes for each read, and nothing for
+     * every other read.
+     */
+    private static final class TricklingChannel
+            implements ReadableByteChannel {
+
+        private TricklingChannel(final byte[] bytes, final int chunk) {
+            super();
+            this.src = ByteBuffer.wrap(bytes);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) {
+            if (!src.hasRemaining()) {
+                return -1;
+            }
+            if ((reads++ & 1) == 1) {
+                return 0;
+            }
+            final var length = Math.min(Math.min(chunk, dst.remaining()), src.remaining());
+            dst.put(src.slice(src.position(), length));
+            src.position(src.position() + length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private final ByteBuffer src;
+
+        private final int chunk;
+
+        private int reads;
+    }
+
+    private static List<FullText> texts() {
+        final var texts = List.of(
+                FullText.newInstance(FullTextCategory.D, "1000", "100"),
+                FullText.newInstance(FullTextCategory.D, "2000", "100"),
+                FullText.newInstance(FullTextCategory.D, "1000", "100")
+        );
+        texts.get(1).acceptBodySection(s -> s.setValue(4, 1000L)); // 4 출금금액
+        return texts;
+    }
+
+    private static byte[] frames(final List<FullText> texts, final FullTextCipher cipher) throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        for (final var text : texts) {
+            text.setCipher(cipher);
+            text.write(Channels.newChannel(baos));
+            text.setCipher(null);
+        }
+        return baos.toByteArray();
+    }
+
+    @ValueSource(ints = {1, 3, 7, 300, 1024})
+    @ParameterizedTest
+    void decode__(final int chunk) throws IOException {
+        final var texts = texts();
+        final var bytes = frames(texts, null);
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, null);
+        final var decoded = new ArrayList<FullText>();
+        for (int i = 0; i < bytes.length; i += chunk) {
+            final var src = ByteBuffer.wrap(Arrays.copyOfRange(bytes, i, Math.min(i + chunk, bytes.length)));
+            decoder.decode(src, decoded::add);
+            assertThat(src.hasRemaining()).isFalse();
+        }
+        assertThat(decoder.isPending()).isFalse();
+        assertThat(decoded).hasSameSizeAs(texts);
+        for (int i = 0; i < texts.size(); i++) {
+            assertThat(decoded.get(i).getDataString()).isEqualTo(texts.get(i).getDataString());
+        }
+    }
+
+    @Test
+    void decode__consumerFailed() throws IOException {
+        final var texts = texts();
+        final var src = ByteBuffer.wrap(frames(texts, null));
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, null);
+        assertThatThrownBy(() -> decoder.decode(src, t -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(decoder.isPending()).isFalse();
+        final var decoded = new ArrayList<FullText>();
+        assertThat(decoder.decode(src, decoded::add)).isEqualTo(texts.size() - 1);
+        assertThat(decoded.getFirst().getDataString()).isEqualTo(texts.get(1).getDataString());
+    }
+
+    private static FullTextBufferPool countingPool(final AtomicInteger allocations) {
+        return FullTextBufferPool.newInstance(1, new FullTextAllocator() {
+            @Override
+            ByteBuffer allocate(final int capacity) {
+                allocations.incrementAndGet();
+                return ByteBuffer.allocate(capacity);
+            }
+        });
+    }
+
+    @Test
+    void decode__consumerFailedPooled() throws IOException {
+        final var allocations = new AtomicInteger();
+        final var pool = countingPool(allocations);
+        final var texts = texts().subList(0, 1);
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, null, pool);
+        assertThatThrownBy(() -> decoder.decode(ByteBuffer.wrap(frames(texts, null)), t -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+        // the buffer of the dropped text has been returned, and is reused
+        final var decoded = new ArrayList<FullText>();
+        assertThat(decoder.decode(ByteBuffer.wrap(frames(texts, null)), decoded::add)).isOne();
+        assertThat(allocations).hasValue(1);
+        pool.release(decoded.getFirst());
+    }
+
+    @Test
+    void decode__zeroLength() {
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, null);
+        assertThatThrownBy(() -> decoder.decode(ByteBuffer.wrap("0000".getBytes()), t -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(decoder.isPending()).isFalse();
+    }
+
+    @Test
+    void decode__invalidText() throws IOException {
+        final var allocations = new AtomicInteger();
+        final var pool = countingPool(allocations);
+        final var texts = texts();
+        final var invalid = new byte[texts.getFirst().getLength()];
+        Arrays.fill(invalid, (byte) '?');
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, null, pool);
+        assertThatThrownBy(() -> decoder.decode(FullTextUtils.encodeFrame(ByteBuffer.wrap(invalid)), t -> {
+        })).isInstanceOf(RuntimeException.class);
+        assertThat(decoder.isPending()).isFalse();
+        // the buffer of the dropped frame has been returned, and is reused
+        final var decoded = new ArrayList<FullText>();
+        assertThat(decoder.decode(ByteBuffer.wrap(frames(texts.subList(0, 1), null)), decoded::add)).isOne();
+        assertThat(decoded.getFirst().getDataString()).isEqualTo(texts.getFirst().getDataString());
+        assertThat(allocations).hasValue(1);
+        pool.release(decoded.getFirst());
+    }
+
+    @ValueSource(ints = {1, 5, 300, 1024})
+    @ParameterizedTest
+    void read__(final int chunk) throws IOException {
+        final var texts = texts();
+        final var channel = new TricklingChannel(frames(texts, null), chunk);
+        final var pool = FullTextBufferPool.newInstance(2);
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, null, pool);
+        final var decoded = new ArrayList<FullText>();
+        while (decoder.read(channel, t -> {
+            decoded.add(t);
+            assertThat(t.getPoolState().getReceived()).isNotNull();
+        }) != -1) {
+            assertThat(decoded.size()).isLessThanOrEqualTo(texts.size());
+        }
+        assertThat(decoded).hasSameSizeAs(texts);
+        for (int i = 0; i < texts.size(); i++) {
+            assertThat(decoded.get(i).getDataString()).isEqualTo(texts.get(i).getDataString());
+            pool.release(decoded.get(i));
+        }
+    }
+
+    @Test
+    void read__cipher() throws IOException {
+        final var cipher = FullTextCipherTestUtils.applyFullTextCipher(c -> c);
+        final var texts = texts();
+        final var channel = new TricklingChannel(frames(texts, cipher), 13);
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, cipher);
+        final var decoded = new ArrayList<FullText>();
+        while (decoder.read(channel, decoded::add) != -1) {
+            assertThat(decoded.size()).isLessThanOrEqualTo(texts.size());
+        }
+        assertThat(decoded).hasSameSizeAs(texts);
+        for (int i = 0; i < texts.size(); i++) {
+            assertThat(decoded.get(i).getDataString()).isEqualTo(texts.get(i).getDataString());
+        }
+    }
+
+    @Test
+    void read__unexpectedEof() throws IOException {
+        final var bytes = frames(texts(), null);
+        final var channel = new TricklingChannel(Arrays.copyOf(bytes, bytes.length - 1), 64);
+        final var decoder = FullTextFrameDecoder.newInstance(FullTextCategory.D, null);
+        final var decoded = new ArrayList<FullText>();
+        assertThatThrownBy(() -> {
+            while (decoder.read(channel, decoded::add) != -1) {
+                assertThat(decoder.isPending() || decoded.size() < 3).isTrue();
+            }
+        }).isInstanceOf(EOFException.class);
+        assertThat(decoded).hasSize(2);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class FullTextLayoutTest {
+
+    @Test
+    void of__() {
+        final var segments = FullTextSchemas.getSegments("D2000_100.body.segments");
+        final var layout = FullTextLayout.of(segments);
+        assertThat(layout.size()).isEqualTo(segments.size());
+        var length = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            assertThat(layout.offset(i)).isEqualTo(segments.get(i).getOffset());
+            assertThat(layout.length(i)).isEqualTo(segments.get(i).getLength());
+            assertThat(layout.segment(i)).usingRecursiveComparison().isEqualTo(segments.get(i));
+            length += segments.get(i).getLength();
+        }
+        assertThat(layout.getLength()).isEqualTo(length);
+    }
+
+    @Test
+    void slot__() {
+        final var layout = FullTextSectionRegistry.getHeadLayout(FullTextCategory.D);
+        assertThat(layout.slot(1)).isZero();
+        assertThat(layout.slot(layout.size())).isEqualTo(layout.size() - 1);
+        assertThatThrownBy(() -> layout.slot(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> layout.slot(layout.size() + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // test-only layout; see F9999_999.body.segments in the test resources
+    @Test
+    void encodeDecode__() {
+        final var layout = FullTextSectionRegistry.getBodyLayout(FullTextCategory.F, "9999", "999");
+        final var data = ByteBuffer.allocate(layout.getLength());
+        layout.encode(data, 0, "USD");
+        layout.encode(data, 1, new BigDecimal("1.5"));
+        layout.encode(data, 2, 1234567890123L);
+        assertThat(layout.decode(data, 0)).isEqualTo("USD");
+        assertThat(layout.decode(data, 1)).isEqualTo(new BigDecimal("1.50"));
+        assertThat(layout.decode(data, 2)).isEqualTo(1234567890123L);
+        layout.encode(data, 1, null);
+        assertThat(layout.decode(data, 1)).isNull();
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class FullTextPoolTest {
+
+    @Test
+    void newInstance__nonPositiveCapacity() {
+        assertThatThrownBy(() -> FullTextPool.newInstance(0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lease__reused() {
+        final var pool = FullTextPool.newInstance(1, true);
+        final var text = pool.lease(FullTextCategory.D, "2000", "100");
+        assertThat(text.getTextCode()).isEqualTo("2000");
+        assertThat(text.getTaskCode()).isEqualTo("100");
+        final var expected = text.getDataString();
+        text.setHeadDateTimeAsNow();
+        text.acceptBodySection(s -> s.setValue(4, 1000L)); // 4 출금금액
+        FullTextCipherTestUtils.acceptFullTextCipher(text::setCipher);
+        pool.release(text);
+        final var leased = pool.lease(FullTextCategory.D, "2000", "100");
+        assertThat(leased).isSameAs(text);
+        assertThat(leased.getDataString()).isEqualTo(expected);
+        pool.release(leased);
+    }
+
+    @Test
+    void release__viewSharesBuffer() {
+        final var pool = FullTextPool.newInstance(1, false);
+        final var text = pool.lease(FullTextCategory.D, "2000", "100");
+        final var view = text.asReadOnly();
+        pool.release(text);
+        final var leased = pool.lease(FullTextCategory.D, "2000", "100");
+        leased.acceptBodySection(s -> s.setValue(4, 1000L)); // 4 출금금액
+        assertThat(view.<Long>applyBodySection(s -> s.getValue(4))).isEqualTo(1000L); // the next tenant's
+        pool.release(leased);
+    }
+
+    @Test
+    void lease__codesChangedWhileLeased() {
+        final var pool = FullTextPool.newInstance(1, false);
+        final var text = pool.lease(FullTextCategory.D, "2000", "100");
+        text.setTextCode("2001");
+        text.setTaskCode("101");
+        pool.release(text);
+        final var leased = pool.lease(FullTextCategory.D, "2000", "100");
+        assertThat(leased).isSameAs(text);
+        assertThat(leased.getTextCode()).isEqualTo("2000");
+        assertThat(leased.getTaskCode()).isEqualTo("100");
+        assertThat(leased.getDataString())
+                .isEqualTo(FullText.newInstance(FullTextCategory.D, "2000", "100").getDataString());
+        pool.release(leased);
+    }
+
+    @Test
+    void lease__perType() {
+        final var pool = FullTextPool.newInstance(1, false);
+        final var text = pool.lease(FullTextCategory.D, "2000", "100");
+        pool.release(text);
+        final var other = pool.lease(FullTextCategory.D, "1000", "100");
+        assertThat(other).isNotSameAs(text);
+        pool.release(other);
+    }
+
+    @Test
+    void release__bounded() {
+        final var pool = FullTextPool.newInstance(1, false);
+        final var text1 = pool.lease(FullTextCategory.D, "2000", "100");
+        final var text2 = pool.lease(FullTextCategory.D, "2000", "100");
+        assertThat(text2).isNotSameAs(text1);
+        pool.release(text1);
+        pool.release(text2); // discarded
+        assertThat(pool.lease(FullTextCategory.D, "2000", "100")).isSameAs(text1);
+        assertThat(pool.lease(FullTextCategory.D, "2000", "100")).isNotSameAs(text2);
+    }
+
+    @Test
+    void release__notLeased() {
+        final var pool = FullTextPool.newInstance(1, false);
+        assertThatThrownBy(() -> pool.release(FullText.newInstance(FullTextCategory.D, "2000", "100")))
+                .isInstanceOf(IllegalArgumentException.class);
+        final var text = FullTextPool.newInstance(1, false).lease(FullTextCategory.D, "2000", "100");
+        assertThatThrownBy(() -> pool.release(text))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void release__twice() {
+        final var pool = FullTextPool.newInstance(1, true);
+        final var text = pool.lease(FullTextCategory.D, "2000", "100");
+        pool.release(text);
+        assertThatThrownBy(() -> pool.release(text))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lease__concurrently() throws Exception {
+        final var pool = FullTextPool.newInstance(4, true);
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            final var futures = new ArrayList<CompletableFuture<Void>>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 128; j++) {
+                        final var text = pool.lease(FullTextCategory.D, "2000", "100");
+                        try {
+                            assertThat(text.getBodyDataString()).isBlank();
+                            text.acceptBodySection(s -> s.setValue(4, 1000L)); // 4 출금금액
+                        } finally {
+                            pool.release(text);
+                        }
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class FullTextSectionRegistryTest {
+
+    @Test
+    void bodyId__() {
+        assertThat(FullTextSectionRegistry.bodyId(FullTextCategory.D, "1000", "100"))
+                .isNotNegative()
+                .isNotEqualTo(FullTextSectionRegistry.bodyId(FullTextCategory.F, "1000", "100"))
+                .isNotEqualTo(FullTextSectionRegistry.bodyId(FullTextCategory.D, "1000", "200"));
+        assertThat(FullTextSectionRegistry.bodyId(FullTextCategory.F, "9999", "999")).isNotNegative();
+        assertThat(FullTextSectionRegistry.bodyId(FullTextCategory.D, "100", "100")).isEqualTo(-1);
+        assertThat(FullTextSectionRegistry.bodyId(FullTextCategory.D, "1000", "1a0")).isEqualTo(-1);
+    }
+
+    @Test
+    void preload__() {
+        assertThat(FullTextSectionRegistry.preload()).isEqualTo(FullTextSchemas.NAMES.size());
+        assertThat(FullText.preload()).isEqualTo(FullTextSchemas.NAMES.size());
+    }
+
+    @Test
+    void getBodyLayout__compiled() {
+        final var layout = FullTextSectionRegistry.getBodyLayout(FullTextCategory.D, "1000", "100");
+        assertThat(layout.getSegments())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(FullTextSchemas.getSegments("D1000_100.body.segments"));
+        assertThat(layout).isSameAs(FullTextSectionRegistry.getBodyLayout(FullTextCategory.D, "1000", "100"));
+    }
+
+    // test-only layout; see F9999_999.body.segments in the test resources
+    @Test
+    void getBodyLayout__notCompiled() {
+        final var layout = FullTextSectionRegistry.getBodyLayout(FullTextCategory.F, "9999", "999");
+        assertThat(layout.size()).isEqualTo(3);
+        assertThat(layout).isSameAs(FullTextSectionRegistry.getBodyLayout(FullTextCategory.F, "9999", "999"));
+    }
+}
@@ -2,14 +2,19 @@ package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
@@ -53,4 +58,260 @@ class FullTextSectionTest {
             verify(spy, times(1)).setDate(intThat(i -> i > 0), isNull());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class GetLongTest {
+
+        @Test
+        void __출금금액() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "2000", "100");
+            assertThat(section.getLong(4)).isZero();
+            section.setLong(4, 9999999999999L); // 4 출금금액 9(13)
+            assertThat(section.getLong(4)).isEqualTo(9999999999999L);
+            assertThat(section.<Long>getValue(4)).isEqualTo(9999999999999L);
+        }
+
+        @Test
+        void __getIntOverflow() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "2000", "100");
+            section.setLong(4, 1234L); // 4 출금금액 9(13)
+            assertThat(section.getInt(4)).isEqualTo(1234);
+            section.setLong(4, 9999999999999L);
+            assertThatThrownBy(() -> section.getInt(4))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+    }
+
+    @Nested
+    class DateTimeTest {
+
+        @Test
+        void __() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            assertThat(section.getDate(8)).isNull();
+            assertThat(section.getEpochDay(8)).isEqualTo(Long.MIN_VALUE);
+            assertThat(section.getTime(9)).isNull();
+            assertThat(section.getSecondOfDay(9)).isEqualTo(-1);
+            final var date = LocalDate.of(2024, 2, 29);
+            section.setDate(8, date); // 8 전송일자 9(8)
+            assertThat(section.getDate(8)).isEqualTo(date);
+            assertThat(section.getEpochDay(8)).isEqualTo(date.toEpochDay());
+            final var time = LocalTime.of(9, 5, 7);
+            section.setTime(9, time); // 9 전송시간 9(6)
+            assertThat(section.getTime(9)).isEqualTo(time);
+            assertThat(section.getSecondOfDay(9)).isEqualTo(time.toSecondOfDay());
+            section.setSecondOfDay(9, 0);
+            assertThat(section.getTime(9)).isEqualTo(LocalTime.MIDNIGHT);
+            section.setEpochDay(8, date.plusDays(1L).toEpochDay());
+            assertThat(section.getDate(8)).isEqualTo(date.plusDays(1L));
+            assertThat(section.getDataString()).contains("20240301000000");
+        }
+
+        @Test
+        void getDate__notNumber() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            final var offset = section.getLayout().offset(section.getLayout().slot(8)); // 8 전송일자 9(8)
+            section.acceptData(d -> d.put(offset, "2024X101".getBytes(StandardCharsets.US_ASCII)));
+            assertThatThrownBy(() -> section.getDate(8))
+                    .isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> section.getEpochDay(8))
+                    .isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void getTime__notNumber() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            final var offset = section.getLayout().offset(section.getLayout().slot(9)); // 9 전송시간 9(6)
+            section.acceptData(d -> d.put(offset, "12:34 ".getBytes(StandardCharsets.US_ASCII)));
+            assertThatThrownBy(() -> section.getTime(9))
+                    .isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> section.getSecondOfDay(9))
+                    .isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    @Nested
+    class SignedLongTest {
+
+        @Test
+        void __출금후잔액() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "2000", "100");
+            section.setSignedLong(5, 6, -1234L); // 5 출금후잔액부호 X(1), 6 출금잔액 9(13)
+            assertThat(section.getSignedLong(5, 6)).isEqualTo(-1234L);
+            assertThat(section.<String>getValue(5)).isEqualTo("-");
+            assertThat(section.getLong(6)).isEqualTo(1234L);
+            section.setSignedLong(5, 6, 5678L);
+            assertThat(section.getSignedLong(5, 6)).isEqualTo(5678L);
+            assertThat(section.<String>getValue(5)).isEqualTo("+");
+        }
+
+        @Test
+        void __거래후잔액() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "4000", "100");
+            assertThat(section.getSignedLong(8, 9)).isZero(); // 8 거래후잔액부호 X(1), 9 거래후잔액 9(13)
+            section.setValue(8, "-");
+            section.setValue(9, 100L);
+            assertThat(section.getSignedLong(8, 9)).isEqualTo(-100L);
+            assertThatThrownBy(() -> section.getSignedLong(9, 8)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class EncodedValueTest {
+
+        @Test
+        void __응답코드() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            final var success = section.encode(10, "0000"); // 10 응답코드 X(4)
+            assertThat(section.isBlank(10)).isTrue();
+            assertThat(section.valueEquals(10, success)).isFalse();
+            section.setValue(10, "0000");
+            assertThat(section.isBlank(10)).isFalse();
+            assertThat(section.isAllDigits(10)).isTrue();
+            assertThat(section.valueEquals(10, success)).isTrue();
+            assertThat(section.valueEquals(10, FullTextEncodedValue.of("000"))).isFalse();
+            assertThat(section.valueStartsWith(10, FullTextEncodedValue.of("00"))).isTrue();
+            assertThat(section.valueStartsWith(10, FullTextEncodedValue.of("01"))).isFalse();
+            assertThat(section.valueStartsWith(10, FullTextEncodedValue.of("00000"))).isFalse();
+        }
+
+        @Test
+        void __은행코드() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            final var bankCode = section.encode(3, 2); // 3 은행코드 9(3)
+            assertThat(bankCode).isEqualTo(FullTextEncodedValue.of("002"));
+            section.setInt(3, 2);
+            assertThat(section.valueEquals(3, bankCode)).isTrue();
+        }
+
+        @Test
+        void __setEncoded() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            final var companyNo = section.encode(2, "COMPANY1"); // 2 업체번호 X(12)
+            final var bankCode = section.encode(3, 2); // 3 은행코드 9(3)
+            section.setEncoded(2, companyNo);
+            section.setEncoded(3, bankCode);
+            assertThat(section.<String>getValue(2)).isEqualTo("COMPANY1");
+            assertThat(section.getInt(3)).isEqualTo(2);
+            assertThat(section.getDataString()).contains("COMPANY1    002");
+            assertThatThrownBy(() -> section.setEncoded(2, FullTextEncodedValue.of("COMPANY1")))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> section.setEncoded(3, companyNo))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class ViewTest {
+
+        @Test
+        void __ascii() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            final var view = new FullTextSegmentView();
+            assertThat(section.getView(10, view)).isSameAs(view).isEmpty(); // 10 응답코드 X(4)
+            section.setValue(10, "0011");
+            assertThat(section.getView(10, view).length()).isEqualTo(4);
+            assertThat(view.charAt(2)).isEqualTo('1');
+            assertThat(view.contentEquals("0011")).isTrue();
+            assertThat(view.contentEquals("0012")).isFalse();
+            assertThat(view.hashCode()).isEqualTo("0011".hashCode());
+            assertThat(view.subSequence(1, 3)).hasToString("01");
+            assertThat(view).hasToString("0011");
+            assertThatThrownBy(() -> view.charAt(4)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void __nonAscii() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "1000", "100");
+            final var view = new FullTextSegmentView();
+            section.setValue(1, "예비 영역 ab"); // 1 예비영역 X(200)
+            assertThat(section.getView(1, view).contentEquals("예비 영역 ab")).isTrue();
+            assertThat(view.hashCode()).isEqualTo("예비 영역 ab".hashCode());
+            assertThat(view).hasToString("예비 영역 ab");
+            section.setValue(1, "ab");
+            assertThat(section.getView(1, view).contentEquals("ab")).isTrue();
+            assertThat(view).isEqualTo(new FullTextSegmentView().set(section.getBuffer(), 0, 2));
+        }
+    }
+
+    @Nested
+    class DataTest {
+
+        @Test
+        void setValue__rejectedKeepsValue() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            section.setValue(10, "0011"); // 10 응답코드 X(4)
+            assertThatThrownBy(() -> section.setValue(10, "00110"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> section.setValue(10, "홍길동"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(section.<String>getValue(10)).isEqualTo("0011");
+        }
+
+        @Test
+        void applyData__duplicate() {
+            final var section = FullTextSection.newHeadInstance(FullTextCategory.D);
+            final var buffer = section.getBuffer();
+            final var position = buffer.position();
+            final var limit = buffer.limit();
+            section.acceptData(d -> {
+                assertThat(d).isNotSameAs(buffer);
+                d.limit(1).position(1); // independent of the section's
+                d.put(0, (byte) 'A'); // shared with the section
+            });
+            assertThat(buffer.position()).isEqualTo(position);
+            assertThat(buffer.limit()).isEqualTo(limit);
+            assertThat(section.getDataString()).startsWith("A");
+            assertThat(section.<Boolean>applyData(d -> d.get(0) == 'A')).isTrue();
+        }
+    }
+
+    @Nested
+    class HandleTest {
+
+        @Test
+        void __indexOf() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "2000", "100");
+            assertThat(section.indexOf("출금금액")).isEqualTo(4);
+            assertThat(section.indexOf("출금후잔액부호")).isEqualTo(5); // 출금후잔액부호; 양수 :‘+’음수 : ‘-‘
+            assertThatThrownBy(() -> section.indexOf("없음")).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void __getHandle() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "2000", "100");
+            final var amount = section.getHandle("출금금액", Long.class);
+            final var account = section.getHandle("출금계좌번호", String.class);
+            assertThat(amount.getIndex()).isEqualTo(4);
+            amount.set(section, 10000L);
+            account.set(section, "1234567890");
+            assertThat(amount.get(section)).isEqualTo(10000L);
+            assertThat(section.getLong(4)).isEqualTo(10000L);
+            assertThat(account.get(section)).isEqualTo("1234567890");
+            // handles are valid for all sections of the same type
+            final var other = FullTextSection.newBodyInstance(FullTextCategory.D, "2000", "100");
+            assertThat(amount.get(other)).isNull();
+            assertThatThrownBy(() -> amount.get(FullTextSection.newBodyInstance(FullTextCategory.D, "1000", "100")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void __getHandle_invalid() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "2000", "100");
+            assertThat(section.getHandle("수수료", Number.class).getType()).isEqualTo(Number.class); // 9(9)
+            assertThatThrownBy(() -> section.getHandle("수수료", Long.class))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> section.getHandle("출금금액", String.class))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void __ambiguous() {
+            final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "7000", "200");
+            assertThatThrownBy(() -> section.indexOf("부호")) // 3 부호, 8 부호
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> section.getHandle("부호", String.class))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
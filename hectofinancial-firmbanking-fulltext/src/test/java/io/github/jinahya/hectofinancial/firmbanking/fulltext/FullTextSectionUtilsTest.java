@@ -1,8 +1,88 @@
 package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Slf4j
 class FullTextSectionUtilsTest {
 
-}
\ No newline at end of file
+    // test-only layout; see F9999_999.body.segments in the test resources
+    @Test
+    void loadBodySegments__9V() {
+        final var segments = FullTextSectionUtils.loadBodySegments(FullTextCategory.F, "9999", "999");
+        assertThat(segments).hasSize(3);
+        assertThat(segments.get(1).getCodec()).isInstanceOf(FullTextSegmentCodec9V.class);
+        assertThat(segments.get(1).getScale()).isEqualTo(2);
+        assertThat(segments.get(1).getLength()).isEqualTo(15);
+        final var section = FullTextSection.newBodyInstance(FullTextCategory.F, "9999", "999");
+        assertThat(section.getDecimal(2)).isNull();
+        section.setDecimal(2, new BigDecimal("100.25"));
+        assertThat(section.getLong(2)).isEqualTo(10025L);
+        assertThat(section.getDecimal(2)).isEqualTo(new BigDecimal("100.25"));
+        assertThat(section.<BigDecimal>getValue(2)).isEqualTo(new BigDecimal("100.25"));
+    }
+
+    @ValueSource(strings = {
+            "D.head.segments",
+            "F.head.segments",
+            "D1000_100.body.segments",
+            "D2000_100.body.segments",
+            "D4000_100.body.segments",
+            "F1000_100.body.segments"
+    })
+    @ParameterizedTest
+    void compiledSegments__sameAsParsed(final String name) {
+        final var compiled = FullTextSchemas.getSegments(name);
+        final var parsed = FullTextSectionUtils.parseSegments(name);
+        assertThat(compiled).hasSameSizeAs(parsed);
+        for (int i = 0; i < parsed.size(); i++) {
+            final var expected = parsed.get(i);
+            final var actual = compiled.get(i);
+            assertThat(actual.getOffset()).isEqualTo(expected.getOffset());
+            assertThat(actual.getLength()).isEqualTo(expected.getLength());
+            assertThat(actual.getCodec()).hasSameClassAs(expected.getCodec());
+            assertThat(actual.getTag()).isEqualTo(expected.getTag());
+        }
+    }
+
+    @Test
+    void compiledSchema__accessors() {
+        final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "2000", "100");
+        FullTextBodySchema_D2000_100.set출금계좌번호(section, "1234567890");
+        FullTextBodySchema_D2000_100.set출금금액(section, 10000L);
+        assertThat(FullTextBodySchema_D2000_100.get출금계좌번호(section)).isEqualTo("1234567890");
+        assertThat(FullTextBodySchema_D2000_100.get출금금액(section)).isEqualTo(10000L);
+        assertThat(section.getLong(FullTextBodySchema_D2000_100.INDEX_출금금액)).isEqualTo(10000L);
+        assertThat(FullTextBodySchema_D2000_100.OFFSET_출금금액).isEqualTo(29);
+        assertThat(section.getLength()).isEqualTo(FullTextBodySchema_D2000_100.LENGTH);
+    }
+
+    @Test
+    void compiledSchema__accessorsOfOtherSection() {
+        final var section = FullTextSection.newBodyInstance(FullTextCategory.D, "1000", "100");
+        assertThatThrownBy(() -> FullTextBodySchema_D2000_100.set출금금액(section, 10000L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FullTextBodySchema_D2000_100.get출금계좌번호(section))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FullTextHeadSchema_D.get전문구분코드(section))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compiledSchema__layouts() {
+        for (final var name : FullTextSchemas.NAMES) {
+            assertThat(FullTextSectionRegistry.getLayout(name).size())
+                    .isEqualTo(FullTextSchemas.getSegments(name).size());
+        }
+        assertThatThrownBy(() -> FullTextLayout.checkValueTypes(
+                FullTextSchemas.getSegments("D.head.segments"), String.class))
+                .isInstanceOf(AssertionError.class);
+    }
+}
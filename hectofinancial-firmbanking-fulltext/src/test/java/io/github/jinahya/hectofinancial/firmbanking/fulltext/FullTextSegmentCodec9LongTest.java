@@ -0,0 +1,38 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class FullTextSegmentCodec9LongTest
+        extends FullTextSegmentCodec$Test<FullTextSegmentCodec9Long, Long> {
+
+    FullTextSegmentCodec9LongTest() {
+        super(FullTextSegmentCodec9Long.class, Long.class);
+    }
+
+    @DisplayName("D2000_100/4/출금금액/9(13)")
+    @Test
+    void 출금금액() {
+        final long decoded = 1234567890123L;
+        final int length = 13;
+        final byte[] encoded = newCodecInstance().encode(decoded, length);
+        log.debug("decoded: {}, encoded: {}", decoded, encoded);
+        assertThat(new String(encoded)).isEqualTo("1234567890123");
+        assertThat(newCodecInstance().decode(encoded)).isEqualTo(decoded);
+    }
+
+    @DisplayName("encodeLong/decodeLong")
+    @Test
+    void encodeLong_decodeLong() {
+        final var data = ByteBuffer.wrap("XX             XX".getBytes());
+        FullTextSegmentCodec9.encodeLong(data, 2, 13, 3000000000L);
+        assertThat(new String(data.array())).isEqualTo("XX0003000000000XX");
+        assertThat(FullTextSegmentCodec9.decodeLong(data, 2, 13)).isEqualTo(3000000000L);
+    }
+}
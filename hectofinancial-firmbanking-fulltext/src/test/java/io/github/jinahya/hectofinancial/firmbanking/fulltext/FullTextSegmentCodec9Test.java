@@ -4,12 +4,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Slf4j
 class FullTextSegmentCodec9Test
@@ -37,6 +41,51 @@ class FullTextSegmentCodec9Test
         assertThat(decoded).isEqualTo(1);
     }
 
+    @DisplayName("encode(-1, 10) throws IllegalArgumentException")
+    @Test
+    void encode_IllegalArgumentException_Negative() {
+        assertThatThrownBy(() -> newCodecInstance().encode(-1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newCodecInstance().encode("-1", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newCodecInstance().encode(-1, ByteBuffer.allocate(10), 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("decode(\"-000000001\"/\"+000000001\") returns null")
+    @Test
+    void decode_Null_Signed() {
+        assertThat(newCodecInstance().decode("-000000001".getBytes())).isNull();
+        assertThat(newCodecInstance().decode("+000000001".getBytes())).isNull();
+    }
+
+    @DisplayName("encode(decoded, 10) throws IllegalArgumentException for a value not exactly an int")
+    @Test
+    void encode_IllegalArgumentException_NotInt() {
+        assertThatThrownBy(() -> newCodecInstance().encode(1L << 32, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newCodecInstance().encode(1.5d, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newCodecInstance().encode(new BigDecimal("1.5"), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newCodecInstance().encode(Double.NaN, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        final var data = ByteBuffer.wrap("0000000001".getBytes());
+        assertThatThrownBy(() -> newCodecInstance().encode(1L << 32, data, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new String(data.array())).isEqualTo("0000000001");
+        assertThat(new String(newCodecInstance().encode(2L, 3))).isEqualTo("002");
+        assertThat(new String(newCodecInstance().encode(2.0d, 3))).isEqualTo("002");
+        assertThat(new String(newCodecInstance().encode(new BigDecimal("2.00"), 3))).isEqualTo("002");
+    }
+
+    @DisplayName("decode(\"9999999999999\") throws ArithmeticException")
+    @Test
+    void decode_ArithmeticException_Overflow() {
+        assertThatThrownBy(() -> newCodecInstance().decode("9999999999999".getBytes()))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     @DisplayName("공통부/3/은행코드/9(3)")
     @Test
@@ -81,4 +130,88 @@ class FullTextSegmentCodec9Test
         log.debug("decoded: {}, encoded: {}", decoded, encoded);
         assertThat(newCodecInstance().decode(encoded)).isEqualTo(decoded);
     }
-}
\ No newline at end of file
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @DisplayName("encodeInt(data, offset, length, value)")
+    @Test
+    void encodeInt__() {
+        final var data = ByteBuffer.wrap("XX      XX".getBytes());
+        FullTextSegmentCodec9.encodeInt(data, 2, 6, 123);
+        assertThat(new String(data.array())).isEqualTo("XX000123XX");
+    }
+
+    @DisplayName("encodeInt(data, offset, length, value) throws IllegalArgumentException when value doesn't fit")
+    @Test
+    void encodeInt_IllegalArgumentException_Overflow() {
+        final var data = ByteBuffer.wrap("    ".getBytes());
+        assertThatThrownBy(() -> FullTextSegmentCodec9.encodeInt(data, 0, 3, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new String(data.array())).isBlank();
+    }
+
+    @DisplayName("decodeInt(data, offset, length)")
+    @Test
+    void decodeInt__() {
+        final var data = ByteBuffer.wrap("XX000123XX".getBytes());
+        assertThat(FullTextSegmentCodec9.decodeInt(data, 2, 6)).isEqualTo(123);
+    }
+
+    @DisplayName("decodeInt(data, offset, length) returns 0 for blank")
+    @Test
+    void decodeInt_Zero_Blank() {
+        final var data = ByteBuffer.wrap("      ".getBytes());
+        assertThat(FullTextSegmentCodec9.decodeInt(data, 0, 6)).isZero();
+    }
+
+    @DisplayName("decodeInt(data, offset, length) throws NumberFormatException for non-digits")
+    @Test
+    void decodeInt_NumberFormatException_NotDigit() {
+        final var data = ByteBuffer.wrap("00a123".getBytes());
+        assertThatThrownBy(() -> FullTextSegmentCodec9.decodeInt(data, 0, 6))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @DisplayName("decodeInt(data, offset, length) throws NumberFormatException for signs")
+    @Test
+    void decodeInt_NumberFormatException_Signed() {
+        assertThatThrownBy(() -> FullTextSegmentCodec9.decodeInt(ByteBuffer.wrap("-00123".getBytes()), 0, 6))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> FullTextSegmentCodec9.decodeInt(ByteBuffer.wrap("+00123".getBytes()), 0, 6))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @DisplayName("decodeInt(data, offset, length) throws NumberFormatException for overflow")
+    @Test
+    void decodeInt_NumberFormatException_Overflow() {
+        final var data = ByteBuffer.wrap("0000012345678901".getBytes());
+        assertThatThrownBy(() -> FullTextSegmentCodec9.decodeInt(data, 0, 16))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @DisplayName("packedDateToEpochDay(packed)/epochDayToPackedDate(epochDay)")
+    @Test
+    void packedDate_epochDay() {
+        final var formatter = DateTimeFormatter.ofPattern("uuuuMMdd");
+        for (var date = LocalDate.of(1999, 1, 1); date.getYear() < 2101; date = date.plusDays(1L)) {
+            final var packed = Integer.parseInt(date.format(formatter));
+            assertThat(FullTextSegmentCodec9.packedDateToEpochDay(packed)).isEqualTo(date.toEpochDay());
+            assertThat(FullTextSegmentCodec9.epochDayToPackedDate(date.toEpochDay())).isEqualTo(packed);
+        }
+        assertThatThrownBy(() -> FullTextSegmentCodec9.packedDateToEpochDay(20230229))
+                .isInstanceOf(DateTimeException.class);
+    }
+
+    @DisplayName("packedTimeToSecondOfDay(packed)/secondOfDayToPackedTime(secondOfDay)")
+    @Test
+    void packedTime_secondOfDay() {
+        final var formatter = DateTimeFormatter.ofPattern("HHmmss");
+        for (var secondOfDay = 0; secondOfDay < 86400; secondOfDay++) {
+            final var packed = Integer.parseInt(LocalTime.ofSecondOfDay(secondOfDay).format(formatter));
+            assertThat(FullTextSegmentCodec9.packedTimeToSecondOfDay(packed)).isEqualTo(secondOfDay);
+            assertThat(FullTextSegmentCodec9.secondOfDayToPackedTime(secondOfDay)).isEqualTo(packed);
+        }
+        assertThatThrownBy(() -> FullTextSegmentCodec9.packedTimeToSecondOfDay(236000))
+                .isInstanceOf(DateTimeException.class);
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+@Slf4j
+class FullTextSegmentCodec9VTest {
+
+    @Test
+    void __Null() {
+        final var instance = new FullTextSegmentCodec9V(2);
+        final var encoded = instance.encode(null, 15);
+        assertThat(encoded).hasSize(15);
+        assertThat(instance.decode(encoded)).isNull();
+    }
+
+    @Test
+    void __() {
+        final var instance = new FullTextSegmentCodec9V(2);
+        final var encoded = instance.encode(new BigDecimal("1234.5"), 15);
+        log.debug("encoded: {}", encoded);
+        assertThat(new String(encoded)).isEqualTo("000000000123450");
+        assertThat(instance.decode(encoded)).isEqualTo(new BigDecimal("1234.50"));
+    }
+
+    @Test
+    void encode_IllegalArgumentException_Rounding() {
+        final var instance = new FullTextSegmentCodec9V(2);
+        assertThatThrownBy(() -> instance.encode(new BigDecimal("0.001"), 15))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
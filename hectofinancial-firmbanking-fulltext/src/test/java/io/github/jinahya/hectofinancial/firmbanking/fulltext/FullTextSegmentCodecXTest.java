@@ -4,7 +4,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Slf4j
 class FullTextSegmentCodecXTest
@@ -99,4 +102,47 @@ class FullTextSegmentCodecXTest
         assertThat(encoded).isEqualTo(decoded.getBytes(FullTextSegmentCodecX.CHARSET));
         assertThat(newCodecInstance().decode(encoded)).isEqualTo(decoded);
     }
-}
\ No newline at end of file
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @DisplayName("encodeX(data, offset, length, ASCII)")
+    @Test
+    void encodeX__Ascii() {
+        final var data = ByteBuffer.wrap("XXXXXXXXXXXX".getBytes());
+        FullTextSegmentCodecX.encodeX(data, 2, 8, "1234  ");
+        assertThat(new String(data.array())).isEqualTo("XX1234    XX");
+        assertThat(FullTextSegmentCodecX.decodeX(data, 2, 8)).isEqualTo("1234");
+    }
+
+    @DisplayName("D2000_100/13/입금계좌예금주명/X(12)")
+    @Test
+    void encodeX__Hangul() {
+        final var data = ByteBuffer.allocate(12);
+        FullTextSegmentCodecX.encodeX(data, 0, 12, "A홍길동");
+        assertThat(new String(data.array(), FullTextSegmentCodecX.CHARSET)).isEqualTo("A홍길동     ");
+        assertThat(FullTextSegmentCodecX.decodeX(data, 0, 12)).isEqualTo("A홍길동");
+        assertThat(FullTextSegmentCodecX.decodeX(data.asReadOnlyBuffer(), 0, 12)).isEqualTo("A홍길동");
+    }
+
+    @DisplayName("encodeX(data, offset, length, decoded) throws IllegalArgumentException when decoded doesn't fit")
+    @Test
+    void encodeX_IllegalArgumentException_Overflow() {
+        final var data = ByteBuffer.wrap("ABCDE".getBytes());
+        assertThatThrownBy(() -> FullTextSegmentCodecX.encodeX(data, 0, 5, "홍길동"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new String(data.array())).isEqualTo("ABCDE"); // unchanged
+        assertThatThrownBy(() -> FullTextSegmentCodecX.encodeX(data, 0, 5, "123456"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new String(data.array())).isEqualTo("ABCDE");
+        assertThatThrownBy(() -> FullTextSegmentCodecX.encodeX(data, 0, 5, "1234홍"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new String(data.array())).isEqualTo("ABCDE");
+    }
+
+    @DisplayName("decodeX(data, offset, length) of read-only ASCII")
+    @Test
+    void decodeX__ReadOnlyAscii() {
+        final var data = ByteBuffer.wrap("0000    ".getBytes()).asReadOnlyBuffer();
+        assertThat(FullTextSegmentCodecX.decodeX(data, 0, 8)).isEqualTo("0000");
+        assertThat(FullTextSegmentCodecX.decodeX(data, 4, 4)).isNull();
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.jinahya.hectofinancial.firmbanking.fulltext;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class FullTextTemplateTest {
+
+    private static FullText prototype() {
+        final var prototype = FullText.newInstance(FullTextCategory.D, "2000", "100");
+        prototype.acceptHeadSection(s -> {
+            s.setValue(1, "ABCDEFGHI"); // 1 식별코드
+            s.setValue(2, "123456789012"); // 2 업체번호
+            s.setValue(3, 2); // 3 은행코드
+            s.setValue(6, 1); // 6 송신회수
+        });
+        return prototype;
+    }
+
+    @Test
+    void newInstance__() {
+        final var prototype = prototype();
+        final var template = FullTextTemplate.of(prototype);
+        assertThat(template.getLength()).isEqualTo(prototype.getLength());
+        final var expected = prototype.getDataString();
+        prototype.setHeadDate(LocalDate.of(2024, 1, 2)); // doesn't affect the template
+        final var text = template.newInstance();
+        assertThat(text).isNotSameAs(prototype);
+        assertThat(text.getDataString()).isEqualTo(expected);
+        assertThat(text.getTextCode()).isEqualTo("2000");
+        assertThat(text.getTaskCode()).isEqualTo("100");
+        text.acceptBodySection(s -> s.setValue(4, 1000L)); // 4 출금금액
+        assertThat(template.newInstance().getDataString()).isEqualTo(expected);
+    }
+
+    @Test
+    void newInstance__direct() {
+        final var prototype = prototype();
+        final var text = FullTextTemplate.of(prototype).newInstance(FullTextAllocator.direct());
+        assertThat(text.getDataString()).isEqualTo(prototype.getDataString());
+    }
+
+    @Test
+    void applyTo__() {
+        final var prototype = prototype();
+        final var template = FullTextTemplate.of(prototype);
+        final var pool = FullTextPool.newInstance(1, false);
+        final var text = pool.lease(FullTextCategory.D, "2000", "100");
+        template.applyTo(text);
+        assertThat(text.getDataString()).isEqualTo(prototype.getDataString());
+        pool.release(text);
+        assertThatThrownBy(() -> template.applyTo(FullText.newInstance(FullTextCategory.D, "1000", "100")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
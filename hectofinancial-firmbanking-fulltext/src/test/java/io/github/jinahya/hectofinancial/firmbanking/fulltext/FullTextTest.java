@@ -17,10 +17,14 @@ import java.nio.channels.Channels;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
@@ -79,6 +83,59 @@ class FullTextTest {
         });
     }
 
+    @Test
+    void sections__sliceOfData() {
+        final var instance = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var head = instance.getSections().get(0);
+        final var body = instance.getSections().get(1);
+        assertThat(head.getBuffer().hasArray()).isTrue();
+        assertThat(body.getBuffer().array()).isSameAs(head.getBuffer().array());
+        assertThat(body.getBuffer().arrayOffset()).isEqualTo(head.getLength());
+        body.setValue(1, "ABC"); // 1 예비영역
+        final var data = instance.getData();
+        assertThat(data.position()).isEqualTo(instance.getLength());
+        assertThat(data.array()).isNotSameAs(head.getBuffer().array());
+        assertThat(instance.getDataString()).isEqualTo(instance.getHeadDataString() + instance.getBodyDataString());
+        assertThat(instance.getBodyDataString()).startsWith("ABC ");
+        head.reset();
+        assertThat(instance.getBodyDataString()).startsWith("ABC "); // reset doesn't go beyond the slice
+        assertThat(instance.getTextCode()).isBlank();
+    }
+
+    @Test
+    void asReadOnly__() throws Exception {
+        final var instance = FullText.newInstance(FullTextCategory.D, "2000", "100");
+        instance.acceptBodySection(s -> s.setValue(4, 1000L)); // 4 출금금액
+        final var view = instance.asReadOnly();
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(view.asReadOnly()).isSameAs(view);
+        assertThat(view).isEqualTo(instance);
+        assertThatThrownBy(() -> view.acceptBodySection(s -> s.setValue(4, 1L)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.setHeadDate(LocalDate.now()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.setCipher(null))
+                .isInstanceOf(UnsupportedOperationException.class);
+        instance.acceptBodySection(s -> s.setValue(4, 2000L)); // shared, not copied
+        final var expected = instance.getDataString();
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            final var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 256; j++) {
+                        assertThat(view.getDataString()).isEqualTo(expected);
+                        assertThat(view.<Long>applyBodySection(s -> s.getValue(4))).isEqualTo(2000L);
+                        assertThat(view.getData().flip().remaining()).isEqualTo(view.getLength());
+                        view.acceptBodySection(s -> assertThat(s.getData()).hasSize(s.getLength()));
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        }
+    }
+
     @Test
     void getHeadDateTime__() {
         // ------------------------------------------------------------------------------------------------------- given
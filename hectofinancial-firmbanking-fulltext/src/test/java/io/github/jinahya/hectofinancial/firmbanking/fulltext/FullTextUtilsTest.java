@@ -3,9 +3,114 @@ package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @NoArgsConstructor(access = AccessLevel.PACKAGE)
 @Slf4j
 class FullTextUtilsTest {
 
+    @ValueSource(ints = {0, 1, 300, 9999})
+    @ParameterizedTest
+    void encodeLength__(final int length) {
+        final var buffer = FullTextUtils.encodeLength(length, ByteBuffer.allocate(FullTextUtils.LENGTH_BYTES));
+        assertThat(StandardCharsets.US_ASCII.decode(buffer.duplicate()).toString())
+                .isEqualTo(String.format("%04d", length));
+        assertThat(FullTextUtils.decodeLength(buffer)).isEqualTo(length);
+    }
+
+    @Test
+    void encodeLength__outOfRange() {
+        assertThatThrownBy(() -> FullTextUtils.encodeLength(10000, ByteBuffer.allocate(FullTextUtils.LENGTH_BYTES)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * A gathering channel which accepts at most specified number of bytes for each write.
+     */
+    private static final class GatheringChannel
+            implements GatheringByteChannel {
+
+        private GatheringChannel(final int limit) {
+            super();
+            this.limit = limit;
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs, final int offset, final int length) {
+            gatherings++;
+            var written = 0L;
+            for (int i = offset; i < offset + length && written < limit; i++) {
+                while (srcs[i].hasRemaining() && written < limit) {
+                    baos.write(srcs[i].get());
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(final ByteBuffer src) {
+            throw new AssertionError("should not be invoked");
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private final int limit;
+
+        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        private int gatherings;
+    }
+
+    @Test
+    void sendData__gathering() throws IOException {
+        final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var expected = new ByteArrayOutputStream();
+        text.write(Channels.newChannel(expected));
+        final var channel = new GatheringChannel(Integer.MAX_VALUE);
+        text.write(channel);
+        assertThat(channel.gatherings).isEqualTo(1);
+        assertThat(channel.baos.toByteArray()).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    void sendData__gatheringPartially() throws IOException {
+        final var text = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var expected = new ByteArrayOutputStream();
+        text.write(Channels.newChannel(expected));
+        final var channel = new GatheringChannel(100);
+        text.write(channel);
+        assertThat(channel.gatherings).isGreaterThan(1);
+        assertThat(channel.baos.toByteArray()).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    void decodeLength__notDigits() {
+        assertThatThrownBy(() -> FullTextUtils.decodeLength(ByteBuffer.wrap("03 0".getBytes())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.github.jinahya.hectofinancial.firmbanking.fulltext;
 
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -8,9 +9,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 @Slf4j
 class FullText_ReadInstance_Test {
 
@@ -30,6 +35,7 @@ class FullText_ReadInstance_Test {
                 Channels.newChannel(new ByteArrayInputStream(baos.toByteArray())),
                 null
         );
+        assertThat(instance2.getDataString()).isEqualTo(instance1.getDataString());
     }
 
     @MethodSource({"getTextCategoryTextCodeAndTaskCodeArgumentsStream"})
@@ -48,5 +54,61 @@ class FullText_ReadInstance_Test {
                 Channels.newChannel(new ByteArrayInputStream(baos.toByteArray())),
                 security
         );
+        assertThat(instance2.getDataString()).isEqualTo(instance1.getDataString());
+    }
+
+    @Test
+    void __pooled() throws IOException {
+        final var instance1 = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var baos = new ByteArrayOutputStream();
+        instance1.write(Channels.newChannel(baos));
+        instance1.write(Channels.newChannel(baos));
+        final var channel = Channels.newChannel(new ByteArrayInputStream(baos.toByteArray()));
+        final var pool = FullTextBufferPool.newInstance(1);
+        final var instance2 = FullText.readInstance(FullTextCategory.D, channel, null, pool);
+        assertThat(instance2.getDataString()).isEqualTo(instance1.getDataString());
+        final var received = instance2.getPoolState().getReceived();
+        assertThat(received).isNotNull();
+        assertThatThrownBy(() -> FullTextBufferPool.newInstance(1).release(instance2))
+                .isInstanceOf(IllegalArgumentException.class);
+        pool.release(instance2);
+        pool.release(instance2); // no-op
+        final var instance3 = FullText.readInstance(FullTextCategory.D, channel, null, pool);
+        assertThat(instance3.getPoolState().getReceived()).isSameAs(received);
+        assertThat(instance3.getDataString()).isEqualTo(instance1.getDataString());
+    }
+
+    @Test
+    void __pooledSecure() throws IOException {
+        final var cipher = FullTextCipherTestUtils.applyFullTextCipher(c -> c);
+        final var instance1 = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        instance1.setCipher(cipher);
+        final var baos = new ByteArrayOutputStream();
+        instance1.write(Channels.newChannel(baos));
+        final var pool = FullTextBufferPool.newInstance(1);
+        final var instance2 = FullText.readInstance(
+                FullTextCategory.D,
+                Channels.newChannel(new ByteArrayInputStream(baos.toByteArray())),
+                cipher,
+                pool
+        );
+        assertThat(instance2.getDataString()).isEqualTo(instance1.getDataString());
+        assertThat(instance2.getPoolState().getReceived()).isNull(); // returned as soon as decrypted
+    }
+
+    @Test
+    void adoptInstance__() {
+        final var instance1 = FullText.newInstance(FullTextCategory.D, "1000", "100");
+        final var data = ByteBuffer.allocate(instance1.getLength() + 2).position(1);
+        data.put(instance1.getData().flip()).flip().position(1);
+        final var instance2 = FullText.adoptInstance(FullTextCategory.D, data);
+        assertThat(instance2.getTextCode()).isEqualTo("1000");
+        assertThat(instance2.getTaskCode()).isEqualTo("100");
+        assertThat(instance2.getDataString()).isEqualTo(instance1.getDataString());
+        // the buffer is adopted, not copied
+        instance2.acceptBodySection(s -> s.setValue(1, "ABC"));
+        assertThat(data.get(1 + instance2.getHeadDataString().length())).isEqualTo((byte) 'A');
+        assertThatThrownBy(() -> FullText.adoptInstance(FullTextCategory.D, data.limit(data.limit() - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }
\ No newline at end of file